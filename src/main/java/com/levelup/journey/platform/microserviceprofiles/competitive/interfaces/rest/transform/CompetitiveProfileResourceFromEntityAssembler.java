@@ -38,8 +38,8 @@ public class CompetitiveProfileResourceFromEntityAssembler {
         // Get username via Profiles ACL facade
         var username = profilesContextFacade.getUsernameByUserId(entity.getUserId());
 
-        // Get leaderboard position via Leaderboard ACL facade
-        var leaderboardPosition = leaderboardContextFacade.getUserPosition(entity.getUserId());
+        // Get leaderboard position via Leaderboard ACL facade (estimated outside the TOP 500)
+        var leaderboardPosition = leaderboardContextFacade.getUserPosition(entity.getUserId(), true);
         var position = leaderboardPosition > 0 ? leaderboardPosition : null;
 
         return new CompetitiveProfileResource(
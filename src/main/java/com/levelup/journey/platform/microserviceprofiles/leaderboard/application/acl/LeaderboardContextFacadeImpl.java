@@ -1,9 +1,11 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.acl;
 
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetApproximateUserPositionQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500Query;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetUserPositionQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.acl.LeaderboardContextFacade;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,9 +19,12 @@ import java.util.stream.Collectors;
 public class LeaderboardContextFacadeImpl implements LeaderboardContextFacade {
 
     private final LeaderboardQueryService leaderboardQueryService;
+    private final boolean approximateRankEnabled;
 
-    public LeaderboardContextFacadeImpl(LeaderboardQueryService leaderboardQueryService) {
+    public LeaderboardContextFacadeImpl(LeaderboardQueryService leaderboardQueryService,
+                                        @Value("${app.leaderboard.approximate-rank.enabled:true}") boolean approximateRankEnabled) {
         this.leaderboardQueryService = leaderboardQueryService;
+        this.approximateRankEnabled = approximateRankEnabled;
     }
 
     @Override
@@ -34,6 +39,19 @@ public class LeaderboardContextFacadeImpl implements LeaderboardContextFacade {
         return entry.map(leaderboardEntry -> leaderboardEntry.getPosition()).orElse(0);
     }
 
+    @Override
+    public Integer getUserPosition(String userId, boolean approximate) {
+        if (!approximate || !approximateRankEnabled) {
+            return getUserPosition(userId);
+        }
+        if (userId == null || userId.isBlank()) {
+            return 0;
+        }
+
+        var query = new GetApproximateUserPositionQuery(userId);
+        return leaderboardQueryService.handle(query);
+    }
+
     @Override
     public List<String> getTopNUsers(Integer limit) {
         if (limit == null || limit < 1) {
@@ -1,132 +1,630 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.commandservices;
 
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl.ExternalProfilesService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl.ExternalScoresService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.ApplyReplicatedLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildLeaderboardRankIndexCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildTimeWindowedLeaderboardsCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecalculateLeaderboardPositionsCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordWindowedScoreCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntriesCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCycleCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardUpdatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionDelta;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardWindow;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka.LeaderboardEntryChangedKafkaPublisher;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka.LeaderboardPositionsChangedKafkaPublisher;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.CycleLeaderboards;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.LeaderboardRankIndex;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.MappedLeaderboardStore;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.PointsHistogram;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.RankMove;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.RankedEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.TimeWindowedLeaderboards;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Leaderboard Command Service Implementation
  * Handles all command operations for leaderboard
+ *
+ * Positions are resolved through the in-memory {@link LeaderboardRankIndex}, so an
+ * update only rewrites the entries whose slot actually changed instead of
+ * recalculating the whole leaderboard.
+ *
+ * Position update modes (app.leaderboard.position-update-mode):
+ * - incremental (default): one bounded UPDATE shifts the entries between the old and the new slot
+ * - full: every update re-assigns all positions with the set-based ROW_NUMBER() statement
+ *
+ * Every position writer first takes a transaction-scoped advisory lock, so the index
+ * moves and the persisted shifts are applied in the same order on every entry.
+ * Under that lock the move computed by the local index is checked against the persisted
+ * positions of the user and of the entry ranked right ahead: an index that has not yet
+ * applied another instance's change falls back to the full recalculation instead of
+ * shifting the shared table with stale positions.
+ *
+ * The per-cycle {@link CycleLeaderboards} follow the rank index on every update.
+ *
+ * The position changes of every write (the updated user plus everyone it displaced)
+ * are merged per user and published after commit as one batch of position deltas.
+ *
+ * Committed points changes are published to the compacted leaderboard-changes topic
+ * together with the points delta, so other instances can also feed their weekly and
+ * monthly rankings. Changes coming from other instances are applied to the local rank
+ * structures only. Changes received before the rank index is loaded are buffered and
+ * replayed after the load, where the loaded points versions discard the stale ones.
+ *
+ * On startup the rank index is reopened from the {@link MappedLeaderboardStore}
+ * checkpoint and only the entries updated since then are read from the database.
  */
 @Service
 public class LeaderboardCommandServiceImpl implements LeaderboardCommandService {
 
     private static final Logger logger = LoggerFactory.getLogger(LeaderboardCommandServiceImpl.class);
     private final LeaderboardEntryRepository leaderboardEntryRepository;
+    private final LeaderboardRankIndex leaderboardRankIndex;
+    private final PointsHistogram pointsHistogram;
+    private final TimeWindowedLeaderboards timeWindowedLeaderboards;
+    private final CycleLeaderboards cycleLeaderboards;
+    private final MappedLeaderboardStore mappedLeaderboardStore;
+    private final ExternalScoresService externalScoresService;
+    private final ExternalProfilesService externalProfilesService;
+    private final LeaderboardEntryChangedKafkaPublisher leaderboardEntryChangedKafkaPublisher;
+    private final LeaderboardPositionsChangedKafkaPublisher leaderboardPositionsChangedKafkaPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean fullRecalculationMode;
+    private final boolean positionEventsEnabled;
+    private final int maxShiftedPerUpdate;
+    private final List<ApplyReplicatedLeaderboardEntryCommand> bufferedReplicatedChanges = new ArrayList<>();
 
-    public LeaderboardCommandServiceImpl(LeaderboardEntryRepository leaderboardEntryRepository) {
+    public LeaderboardCommandServiceImpl(LeaderboardEntryRepository leaderboardEntryRepository,
+                                         LeaderboardRankIndex leaderboardRankIndex,
+                                         PointsHistogram pointsHistogram,
+                                         TimeWindowedLeaderboards timeWindowedLeaderboards,
+                                         CycleLeaderboards cycleLeaderboards,
+                                         MappedLeaderboardStore mappedLeaderboardStore,
+                                         ExternalScoresService externalScoresService,
+                                         ExternalProfilesService externalProfilesService,
+                                         LeaderboardEntryChangedKafkaPublisher leaderboardEntryChangedKafkaPublisher,
+                                         LeaderboardPositionsChangedKafkaPublisher leaderboardPositionsChangedKafkaPublisher,
+                                         ApplicationEventPublisher eventPublisher,
+                                         @Value("${app.leaderboard.position-update-mode:incremental}") String positionUpdateMode,
+                                         @Value("${app.leaderboard.position-events.enabled:true}") boolean positionEventsEnabled,
+                                         @Value("${app.leaderboard.position-events.max-shifted-per-update:1000}") int maxShiftedPerUpdate) {
         this.leaderboardEntryRepository = leaderboardEntryRepository;
+        this.leaderboardRankIndex = leaderboardRankIndex;
+        this.pointsHistogram = pointsHistogram;
+        this.timeWindowedLeaderboards = timeWindowedLeaderboards;
+        this.cycleLeaderboards = cycleLeaderboards;
+        this.mappedLeaderboardStore = mappedLeaderboardStore;
+        this.externalScoresService = externalScoresService;
+        this.externalProfilesService = externalProfilesService;
+        this.leaderboardEntryChangedKafkaPublisher = leaderboardEntryChangedKafkaPublisher;
+        this.leaderboardPositionsChangedKafkaPublisher = leaderboardPositionsChangedKafkaPublisher;
+        this.eventPublisher = eventPublisher;
+        this.fullRecalculationMode = "full".equalsIgnoreCase(positionUpdateMode);
+        this.positionEventsEnabled = positionEventsEnabled;
+        this.maxShiftedPerUpdate = maxShiftedPerUpdate;
     }
 
     @Override
     @Transactional
     public Optional<LeaderboardEntry> handle(UpdateLeaderboardEntryCommand command) {
+        ensureRankIndexLoaded();
+        leaderboardEntryRepository.lockPositions();
+        var positionChanges = new PositionChanges();
+        var entry = applyUpdate(command, positionChanges);
+        publishPositionChangesOnCommit(positionChanges);
+        eventPublisher.publishEvent(new LeaderboardUpdatedEvent(1));
+        return Optional.of(entry);
+    }
+
+    @Override
+    @Transactional
+    public Integer handle(UpdateLeaderboardEntriesCommand command) {
+        ensureRankIndexLoaded();
+        leaderboardEntryRepository.lockPositions();
+
+        // All coalesced updates share one transaction and one batch of position changes
+        var positionChanges = new PositionChanges();
+        for (UpdateLeaderboardEntryCommand update : command.updates()) {
+            applyUpdate(update, positionChanges);
+        }
+        publishPositionChangesOnCommit(positionChanges);
+
+        eventPublisher.publishEvent(new LeaderboardUpdatedEvent(command.updates().size()));
+        logger.info("Applied batch of {} leaderboard updates", command.updates().size());
+        return command.updates().size();
+    }
+
+    /**
+     * Applies a single entry update inside the current transaction
+     *
+     * @param command The update to apply
+     * @param positionChanges Collects the position changes caused by the update
+     * @return The persisted entry with its new position
+     */
+    private LeaderboardEntry applyUpdate(UpdateLeaderboardEntryCommand command, PositionChanges positionChanges) {
         var userId = new LeaderboardUserId(command.userId());
 
         // Check if entry already exists
         var existingEntry = leaderboardEntryRepository.findByUserId(userId);
 
+        LeaderboardEntry entry;
         Integer oldPosition = null;
+        long previousVersion = 0L;
         if (existingEntry.isPresent()) {
-            oldPosition = existingEntry.get().getPosition();
-
-            // Update existing entry - first calculate the new position
-            var entry = existingEntry.get();
-
             // Update points only first (keep current position temporarily)
-            entry.updatePointsAndPosition(command.totalPoints(), entry.getPosition());
-            var savedEntry = leaderboardEntryRepository.save(entry);
-
-            // Recalculate position with tie-breaking after save
-            var calculatedPosition = leaderboardEntryRepository.calculatePositionForUser(userId);
-            savedEntry.updatePosition(calculatedPosition.intValue());
-            savedEntry = leaderboardEntryRepository.save(savedEntry);
-
-            logger.info("Updated leaderboard entry for user {} with {} points. Position changed: {} → {}",
-                    command.userId(), command.totalPoints(), oldPosition, calculatedPosition);
-
-            // Recalculate positions for ALL other users to maintain consistency
-            recalculateAllPositions();
-
-            return Optional.of(savedEntry);
+            entry = existingEntry.get();
+            oldPosition = entry.getPosition();
+            previousVersion = entry.getPointsVersion();
+            entry.updatePointsAndPosition(command.totalPoints(), oldPosition);
         } else {
             // Create new entry - assign last position initially
-            var totalEntries = leaderboardEntryRepository.countTotalEntries();
-            var initialPosition = totalEntries.intValue() + 1;
-            var newEntry = new LeaderboardEntry(command, initialPosition);
+            entry = new LeaderboardEntry(command, leaderboardRankIndex.size() + 1);
+        }
+        var savedEntry = leaderboardEntryRepository.save(entry);
 
-            var savedEntry = leaderboardEntryRepository.save(newEntry);
+        // Resolve the new position with tie-breaking in O(log n)
+        var rankedEntry = toRankedEntry(savedEntry);
+        var move = leaderboardRankIndex.upsert(rankedEntry, savedEntry.getPointsVersion());
+        pointsHistogram.move(previousPoints(move), savedEntry.getTotalPoints());
+        cycleLeaderboards.upsert(rankedEntry);
+        settleRankIndexOnCompletion(rankedEntry, savedEntry.getPointsVersion(), move, previousVersion);
+        publishChangeOnCommit(rankedEntry, savedEntry.getPointsVersion(),
+                savedEntry.getTotalPoints() - (move.isNewEntry() ? 0 : move.previous().points()));
 
-            // Recalculate position with tie-breaking after save
-            var calculatedPosition = leaderboardEntryRepository.calculatePositionForUser(userId);
-            savedEntry.updatePosition(calculatedPosition.intValue());
+        int shiftedCount;
+        if (fullRecalculationMode || !matchesPersistedPositions(rankedEntry, oldPosition, move)) {
+            // The index is behind the table (or full mode is configured): repair the whole table from the database
+            positionChanges.markIncomplete();
+            savedEntry.updatePosition(move.newPosition());
             savedEntry = leaderboardEntryRepository.save(savedEntry);
+            shiftedCount = leaderboardEntryRepository.recalculateAllPositions();
+            savedEntry = leaderboardEntryRepository.findByUserId(userId).orElse(savedEntry);
+        } else {
+            // Only the entries between the old and the new slot move by one position
+            shiftedCount = shiftDisplacedPositions(command.userId(), oldPosition, move.newPosition());
+            savedEntry.updatePosition(move.newPosition());
+            savedEntry = leaderboardEntryRepository.save(savedEntry);
+        }
 
-            logger.info("Created leaderboard entry for user {} with {} points at position {}",
-                    command.userId(), command.totalPoints(), calculatedPosition);
-
-            // Recalculate positions for ALL other users to maintain consistency
-            recalculateAllPositions();
+        if (positionEventsEnabled) {
+            collectPositionChanges(rankedEntry, move, positionChanges);
+        }
 
-            return Optional.of(savedEntry);
+        if (move.isNewEntry()) {
+            logger.info("Created leaderboard entry for user {} with {} points at position {} ({} entries shifted)",
+                    command.userId(), command.totalPoints(), move.newPosition(), shiftedCount);
+        } else {
+            logger.info("Updated leaderboard entry for user {} with {} points. Position changed: {} → {} ({} entries shifted)",
+                    command.userId(), command.totalPoints(), move.oldPosition(), move.newPosition(), shiftedCount);
         }
+
+        return savedEntry;
     }
 
     @Override
     @Transactional
     public Integer handle(RecalculateLeaderboardPositionsCommand command) {
         logger.info("Starting leaderboard position recalculation");
-        return recalculateAllPositions();
+        leaderboardEntryRepository.lockPositions();
+
+        // Single set-based ROW_NUMBER() update; no entity goes through the persistence context
+        var updatedCount = leaderboardEntryRepository.recalculateAllPositions();
+
+        // Re-sync the in-memory index with the repaired table
+        rebuildRankIndex();
+
+        // Positions may have moved anywhere: signal consumers to re-read them
+        var positionChanges = new PositionChanges();
+        positionChanges.markIncomplete();
+        publishPositionChangesOnCommit(positionChanges);
+        eventPublisher.publishEvent(new LeaderboardUpdatedEvent(updatedCount));
+
+        logger.info("Leaderboard recalculation completed. Updated {} entries", updatedCount);
+        return updatedCount;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer handle(RebuildLeaderboardRankIndexCommand command) {
+        return warmStartRankIndex();
+    }
+
+    @Override
+    public void handle(RecordWindowedScoreCommand command) {
+        timeWindowedLeaderboards.record(command.userId(), command.points(), command.earnedAt());
+    }
+
+    @Override
+    public void handle(ApplyReplicatedLeaderboardEntryCommand command) {
+        synchronized (bufferedReplicatedChanges) {
+            if (!leaderboardRankIndex.isLoaded()) {
+                // The load may or may not contain this change yet: replay it afterwards against the loaded versions
+                bufferedReplicatedChanges.add(command);
+                return;
+            }
+        }
+        applyReplicatedChange(command);
+    }
+
+    private void applyReplicatedChange(ApplyReplicatedLeaderboardEntryCommand command) {
+        var rankedEntry = new RankedEntry(command.userId(), command.points(), command.createdAtMillis());
+        leaderboardRankIndex.upsertIfNewer(rankedEntry, command.version()).ifPresent(move -> {
+            pointsHistogram.move(previousPoints(move), command.points());
+            cycleLeaderboards.upsert(rankedEntry);
+            if (command.pointsDelta() != 0) {
+                timeWindowedLeaderboards.record(command.userId(), command.pointsDelta(),
+                        Instant.ofEpochMilli(command.earnedAtMillis()));
+            }
+            eventPublisher.publishEvent(new LeaderboardUpdatedEvent(1));
+            logger.debug("Applied replicated leaderboard change for user {} (version {})",
+                    command.userId(), command.version());
+        });
+    }
+
+    /**
+     * Applies the replicated changes received while the rank index was loading
+     */
+    private void replayBufferedReplicatedChanges() {
+        List<ApplyReplicatedLeaderboardEntryCommand> buffered;
+        synchronized (bufferedReplicatedChanges) {
+            buffered = new ArrayList<>(bufferedReplicatedChanges);
+            bufferedReplicatedChanges.clear();
+        }
+        buffered.forEach(this::applyReplicatedChange);
+        if (!buffered.isEmpty()) {
+            logger.info("Replayed {} leaderboard changes received while the rank index was loading", buffered.size());
+        }
+    }
+
+    @Override
+    public void handle(UpdateLeaderboardEntryCycleCommand command) {
+        ensureRankIndexLoaded();
+
+        // The current entry is read under the partition lock so a concurrent points update is never lost
+        cycleLeaderboards.assignCycle(command.userId(), command.cycle(),
+                () -> leaderboardRankIndex.get(command.userId()));
+        logger.info("Moved user {} to the {} cycle leaderboard", command.userId(), command.cycle());
+    }
+
+    @Override
+    public Integer handle(RebuildTimeWindowedLeaderboardsCommand command) {
+        // Only the days still covered by the longest window are read
+        var since = LocalDate.now(ZoneOffset.UTC).minusDays(LeaderboardWindow.maxDays() - 1);
+        var dailyPoints = externalScoresService.fetchDailyPointsByUserSince(since);
+
+        var loadedBuckets = timeWindowedLeaderboards.load(dailyPoints);
+        logger.info("Time-windowed leaderboards loaded with {} users over {} days", dailyPoints.size(), loadedBuckets);
+        return loadedBuckets;
+    }
+
+    /**
+     * Lazily loads the rank index if an update arrives before the startup load finished
+     */
+    private void ensureRankIndexLoaded() {
+        if (!leaderboardRankIndex.isLoaded()) {
+            synchronized (leaderboardRankIndex) {
+                if (!leaderboardRankIndex.isLoaded()) {
+                    warmStartRankIndex();
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads the rank index from the last mapped store checkpoint, then applies the
+     * entries updated since that checkpoint. Falls back to a full database load
+     * when no usable checkpoint exists, or when entries were deleted since the
+     * checkpoint (the reopened index has more entries than the table).
+     *
+     * @return Number of entries loaded
+     */
+    private Integer warmStartRankIndex() {
+        var checkpoint = mappedLeaderboardStore.open();
+        if (checkpoint.isEmpty()) {
+            return rebuildRankIndex();
+        }
+
+        // Counted before the catch-up: entries inserted meanwhile only cause a full load, never a missed deletion
+        var persistedCount = leaderboardEntryRepository.countTotalEntries();
+        var changedKeys = toRankingKeys(leaderboardEntryRepository.findRankingKeysUpdatedSince(
+                Date.from(checkpoint.get().catchUpFrom())));
+
+        // Checkpoint records are streamed into the index; caught up entries replace them in place
+        var loadedCount = leaderboardRankIndex.load(
+                concat(checkpoint.get().entries(), changedKeys.entries()), changedKeys.versions());
+        if (loadedCount != persistedCount) {
+            logger.warn("Leaderboard checkpoint has {} entries but the table has {}; reloading from the database",
+                    loadedCount, persistedCount);
+            return rebuildRankIndex();
+        }
+
+        logger.info("Leaderboard rank index reopened from checkpoint with {} entries, {} caught up from the database",
+                checkpoint.get().size(), changedKeys.entries().size());
+        return loadDerivedRankings(loadedCount);
+    }
+
+    /**
+     * Loads every ranking key (userId, points, createdAt, pointsVersion) into the rank index
+     * using a projection, without materializing LeaderboardEntry entities
+     *
+     * @return Number of entries loaded
+     */
+    private Integer rebuildRankIndex() {
+        var rankingKeys = toRankingKeys(leaderboardEntryRepository.findAllRankingKeys());
+        return loadDerivedRankings(leaderboardRankIndex.load(rankingKeys.entries(), rankingKeys.versions()));
+    }
+
+    /**
+     * Loads the points histogram and the cycle leaderboards from the entries of the freshly loaded rank index,
+     * sharing its entry instances, then replays the changes replicated during the load
+     */
+    private Integer loadDerivedRankings(int loadedCount) {
+        var rankedEntries = leaderboardRankIndex.snapshot();
+        pointsHistogram.load(rankedEntries.stream().map(RankedEntry::points).toList());
+        var partitionedCount = cycleLeaderboards.load(externalProfilesService.fetchStudentCyclesByUserId(), rankedEntries);
+        logger.info("Leaderboard rank index loaded with {} entries ({} ranked by cycle)", loadedCount, partitionedCount);
+        replayBufferedReplicatedChanges();
+        return loadedCount;
+    }
+
+    /**
+     * Iterates the checkpoint entries, then the caught up entries
+     */
+    private Iterable<RankedEntry> concat(Iterable<RankedEntry> checkpointEntries, List<RankedEntry> changedEntries) {
+        return () -> Stream.concat(
+                StreamSupport.stream(checkpointEntries.spliterator(), false),
+                changedEntries.stream()
+        ).iterator();
     }
 
     /**
-     * Recalculates positions for ALL leaderboard entries
-     * Uses the tie-breaking logic: higher points first, then earlier created_at
+     * Shifts the persisted position of every entry displaced by a rank move
+     * with one bounded UPDATE, so write cost scales with how far the user moved.
+     *
+     * - Moving up from p1 to p2: entries in [p2, p1 - 1] move down by one
+     * - Moving down from p1 to p2: entries in [p1 + 1, p2] move up by one
+     * - New entry at p2: entries from p2 to the end move down by one
      *
-     * This ensures:
-     * - No duplicate positions
-     * - Correct ordering after any update
-     * - Users who gain points push others down
+     * @param userId The user whose entry was just updated
+     * @param oldPosition The persisted position before the update, null for a new entry
+     * @param newPosition The new position resolved by the rank index
+     * @return Number of entries shifted
+     */
+    /**
+     * Checks the move computed by the local rank index against the persisted positions.
+     * Other instances' changes reach the index asynchronously, so it may be behind the table;
+     * its positions are only used to shift the table when both the old slot and the new one
+     * (one past the persisted position of the entry now ranked right ahead) agree.
+     * Runs under the position lock, so the persisted positions are consistent.
      *
-     * @return Number of entries updated
+     * @return true if the index move can be applied to the table as a range shift
+     */
+    private boolean matchesPersistedPositions(RankedEntry rankedEntry, Integer oldPosition, RankMove move) {
+        if (oldPosition == null ? !move.isNewEntry() : oldPosition != move.oldPosition()) {
+            logger.warn("Rank index is behind the leaderboard table for user {} (position {} persisted, {} indexed)",
+                    rankedEntry.userId(), oldPosition, move.oldPosition());
+            return false;
+        }
+
+        int positionAhead = leaderboardEntryRepository.findPositionOfEntryAhead(
+                rankedEntry.points(), new Date(rankedEntry.createdAtMillis()), rankedEntry.userId()).orElse(0);
+        // An entry ahead that currently sits behind the old slot moves up by one when this user moves down
+        int persistedNewPosition = oldPosition != null && positionAhead > oldPosition ? positionAhead : positionAhead + 1;
+        if (persistedNewPosition != move.newPosition()) {
+            logger.warn("Rank index is behind the leaderboard table for user {} (new position {} persisted, {} indexed)",
+                    rankedEntry.userId(), persistedNewPosition, move.newPosition());
+            return false;
+        }
+        return true;
+    }
+
+    private int shiftDisplacedPositions(String userId, Integer oldPosition, int newPosition) {
+        if (oldPosition == null) {
+            return leaderboardEntryRepository.shiftPositions(newPosition, Integer.MAX_VALUE, 1, userId);
+        }
+        if (newPosition < oldPosition) {
+            return leaderboardEntryRepository.shiftPositions(newPosition, oldPosition - 1, 1, userId);
+        }
+        if (newPosition > oldPosition) {
+            return leaderboardEntryRepository.shiftPositions(oldPosition + 1, newPosition, -1, userId);
+        }
+        return 0;
+    }
+
+    /**
+     * Marks the indexed write as committed once the surrounding transaction commits.
+     * Otherwise reverts the in-memory index, histogram and cycle leaderboards,
+     * so they never reflect points that were never persisted.
+     * Nothing is restored once a newer version of the entry has been indexed.
      */
-    private Integer recalculateAllPositions() {
-        // Get all entries
-        List<LeaderboardEntry> allEntries = leaderboardEntryRepository.findAll();
-
-        int updatedCount = 0;
-
-        for (LeaderboardEntry entry : allEntries) {
-            // Calculate correct position using tie-breaking query
-            var userIdVO = new LeaderboardUserId(entry.getUserId());
-            var calculatedPosition = leaderboardEntryRepository.calculatePositionForUser(userIdVO);
-
-            if (calculatedPosition != null) {
-                Integer currentPosition = entry.getPosition();
-                Integer newPosition = calculatedPosition.intValue();
-
-                // Only update if position changed
-                if (!newPosition.equals(currentPosition)) {
-                    entry.updatePosition(newPosition);
-                    leaderboardEntryRepository.save(entry);
-                    updatedCount++;
-                    logger.debug("Updated position for user {}: {} → {}",
-                            entry.getUserId(), currentPosition, newPosition);
+    private void settleRankIndexOnCompletion(RankedEntry written, long writtenVersion, RankMove move, long previousVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leaderboardRankIndex.markCommitted(written, writtenVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    leaderboardRankIndex.markCommitted(written, writtenVersion);
+                    return;
+                }
+                var userId = written.userId();
+                if (!leaderboardRankIndex.revert(written, writtenVersion, move.previous(), previousVersion)) {
+                    logger.warn("Leaderboard update for user {} rolled back; a newer change is already indexed", userId);
+                    return;
+                }
+                if (move.isNewEntry()) {
+                    cycleLeaderboards.remove(userId);
+                } else {
+                    cycleLeaderboards.upsert(move.previous());
                 }
+                pointsHistogram.move(written.points(), previousPoints(move));
+                logger.warn("Leaderboard update for user {} rolled back; rank index restored", userId);
+            }
+        });
+    }
+
+    private RankingKeys toRankingKeys(List<Object[]> rows) {
+        var rankedEntries = new ArrayList<RankedEntry>(rows.size());
+        var versions = new HashMap<String, Long>(rows.size() * 2);
+        for (Object[] row : rows) {
+            var userId = (String) row[0];
+            var createdAt = (Date) row[2];
+            rankedEntries.add(new RankedEntry(
+                    userId,
+                    (Integer) row[1],
+                    createdAt != null ? createdAt.getTime() : 0L
+            ));
+            if (row[3] != null) {
+                versions.put(userId, (Long) row[3]);
             }
         }
+        return new RankingKeys(rankedEntries, versions);
+    }
 
-        logger.info("Leaderboard recalculation completed. Updated {} entries", updatedCount);
-        return updatedCount;
+    /**
+     * Records the move of the updated user and of every user it displaced by one slot.
+     * Displaced users are read from the rank index; moves displacing more users than
+     * the configured limit only record the updated user and mark the batch incomplete.
+     */
+    private void collectPositionChanges(RankedEntry entry, RankMove move, PositionChanges positionChanges) {
+        positionChanges.add(new LeaderboardPositionDelta(
+                entry.userId(), move.oldPosition(), move.newPosition(), entry.points()));
+
+        if (!move.isNewEntry() && move.oldPosition() == move.newPosition()) {
+            return;
+        }
+        if (move.affectedTo() - move.affectedFrom() > maxShiftedPerUpdate) {
+            positionChanges.markIncomplete();
+            return;
+        }
+
+        // Moving down shifts the others up by one; moving up or entering shifts them down by one
+        int shift = !move.isNewEntry() && move.newPosition() > move.oldPosition() ? -1 : 1;
+        var affected = leaderboardRankIndex.range(move.affectedFrom() - 1, move.affectedTo() - move.affectedFrom() + 1);
+        for (int i = 0; i < affected.size(); i++) {
+            var displaced = affected.get(i);
+            if (displaced.userId().equals(entry.userId())) {
+                continue;
+            }
+            int position = move.affectedFrom() + i;
+            positionChanges.add(new LeaderboardPositionDelta(
+                    displaced.userId(), position - shift, position, displaced.points()));
+        }
+    }
+
+    /**
+     * Publishes the collected position changes as one batch once the transaction commits
+     */
+    private void publishPositionChangesOnCommit(PositionChanges positionChanges) {
+        if (!positionEventsEnabled) {
+            return;
+        }
+        Runnable publish = () -> {
+            var changes = positionChanges.toList();
+            if (!changes.isEmpty() || !positionChanges.isComplete()) {
+                leaderboardPositionsChangedKafkaPublisher.publish(
+                        leaderboardRankIndex.getVersion(), changes, positionChanges.isComplete());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+
+    /**
+     * Publishes the committed entry to the other instances; nothing is published if the transaction rolls back
+     *
+     * @param pointsDelta Points added by this write, fed to the other instances' time-windowed leaderboards
+     */
+    private void publishChangeOnCommit(RankedEntry entry, long version, int pointsDelta) {
+        Runnable publish = () -> leaderboardEntryChangedKafkaPublisher.publish(
+                entry.userId(), entry.points(), entry.createdAtMillis(), version, pointsDelta, System.currentTimeMillis());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish.run();
+            }
+        });
+    }
+
+    private Integer previousPoints(RankMove move) {
+        return move.isNewEntry() ? null : move.previous().points();
+    }
+
+    private RankedEntry toRankedEntry(LeaderboardEntry entry) {
+        var createdAt = entry.getCreatedAt() != null ? entry.getCreatedAt().getTime() : System.currentTimeMillis();
+        return new RankedEntry(entry.getUserId(), entry.getTotalPoints(), createdAt);
+    }
+
+    /**
+     * Ranking keys read from the database with the points version of each entry
+     */
+    private record RankingKeys(List<RankedEntry> entries, Map<String, Long> versions) {
+    }
+
+    /**
+     * Position changes of one write, merged per user
+     */
+    private static final class PositionChanges {
+        private final Map<String, LeaderboardPositionDelta> deltasByUserId = new LinkedHashMap<>();
+        private boolean complete = true;
+
+        void add(LeaderboardPositionDelta delta) {
+            deltasByUserId.merge(delta.userId(), delta, LeaderboardPositionDelta::followedBy);
+        }
+
+        void markIncomplete() {
+            complete = false;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        List<LeaderboardPositionDelta> toList() {
+            return deltasByUserId.values().stream()
+                    .filter(delta -> !delta.isUnchanged())
+                    .toList();
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.commandservices;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardPositionHistory;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordLeaderboardPositionSnapshotCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStanding;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardPositionHistoryCommandService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardPositionHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Leaderboard Position History Command Service Implementation
+ * Appends daily snapshots to the monthly, delta-encoded history rows
+ */
+@Service
+public class LeaderboardPositionHistoryCommandServiceImpl implements LeaderboardPositionHistoryCommandService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardPositionHistoryCommandServiceImpl.class);
+    private final LeaderboardPositionHistoryRepository leaderboardPositionHistoryRepository;
+
+    public LeaderboardPositionHistoryCommandServiceImpl(LeaderboardPositionHistoryRepository leaderboardPositionHistoryRepository) {
+        this.leaderboardPositionHistoryRepository = leaderboardPositionHistoryRepository;
+    }
+
+    @Override
+    @Transactional
+    public Integer handle(RecordLeaderboardPositionSnapshotCommand command) {
+        if (command.standings().isEmpty()) {
+            return 0;
+        }
+
+        var monthStart = command.snapshotDate().withDayOfMonth(1);
+        var userIds = command.standings().stream().map(LeaderboardStanding::userId).toList();
+        var historiesByUserId = leaderboardPositionHistoryRepository.findByMonthStartAndUserIds(monthStart, userIds).stream()
+                .collect(Collectors.toMap(LeaderboardPositionHistory::getUserId, Function.identity()));
+
+        // Existing rows are flushed by dirty checking; only the first snapshot of the month inserts
+        var created = new ArrayList<LeaderboardPositionHistory>();
+        int appended = 0;
+        for (LeaderboardStanding standing : command.standings()) {
+            var history = historiesByUserId.get(standing.userId());
+            if (history == null) {
+                history = new LeaderboardPositionHistory(standing.userId(), monthStart);
+                historiesByUserId.put(standing.userId(), history);
+                created.add(history);
+            }
+            if (history.record(command.snapshotDate(), standing.position(), standing.points())) {
+                appended++;
+            }
+        }
+        leaderboardPositionHistoryRepository.saveAll(created);
+
+        logger.debug("Appended {} position samples for {}", appended, command.snapshotDate());
+        return appended;
+    }
+}
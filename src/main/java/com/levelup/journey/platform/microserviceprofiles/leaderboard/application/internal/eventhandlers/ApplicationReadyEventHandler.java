@@ -0,0 +1,51 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildLeaderboardRankIndexCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildTimeWindowedLeaderboardsCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application Ready Event Handler
+ * Loads the in-memory leaderboard rank index and time-windowed leaderboards
+ * when application is fully started and ready
+ */
+@Service("leaderboardApplicationReadyEventHandler")
+public class ApplicationReadyEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationReadyEventHandler.class);
+    private final LeaderboardCommandService leaderboardCommandService;
+
+    public ApplicationReadyEventHandler(LeaderboardCommandService leaderboardCommandService) {
+        this.leaderboardCommandService = leaderboardCommandService;
+    }
+
+    /**
+     * Handle application ready event
+     * Builds the rank index from the persisted leaderboard entries
+     *
+     * @param event The application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        var applicationName = event.getApplicationContext().getId();
+        logger.info("Application {} is ready. Loading leaderboard rank index.", applicationName);
+
+        try {
+            var loadedCount = leaderboardCommandService.handle(new RebuildLeaderboardRankIndexCommand());
+            logger.info("Leaderboard rank index loaded for {} with {} entries", applicationName, loadedCount);
+        } catch (Exception e) {
+            logger.error("Error loading leaderboard rank index for {}: {}", applicationName, e.getMessage(), e);
+        }
+
+        try {
+            leaderboardCommandService.handle(new RebuildTimeWindowedLeaderboardsCommand());
+        } catch (Exception e) {
+            logger.error("Error loading time-windowed leaderboards for {}: {}", applicationName, e.getMessage(), e);
+        }
+    }
+}
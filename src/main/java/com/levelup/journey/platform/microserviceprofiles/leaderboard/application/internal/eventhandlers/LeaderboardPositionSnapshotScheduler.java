@@ -0,0 +1,83 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordLeaderboardPositionSnapshotCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStanding;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardPositionHistoryCommandService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.LeaderboardRankIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+/**
+ * Leaderboard Position Snapshot Scheduler
+ * Records every user's closing position of the day into the position history.
+ *
+ * Standings are read from the in-memory {@link LeaderboardRankIndex}, not from
+ * leaderboard_entries, and written in chunks so each transaction stays small.
+ * Only one instance needs to run it; the others should disable it.
+ */
+@Component
+public class LeaderboardPositionSnapshotScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardPositionSnapshotScheduler.class);
+
+    private final LeaderboardRankIndex leaderboardRankIndex;
+    private final LeaderboardPositionHistoryCommandService leaderboardPositionHistoryCommandService;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public LeaderboardPositionSnapshotScheduler(
+            LeaderboardRankIndex leaderboardRankIndex,
+            LeaderboardPositionHistoryCommandService leaderboardPositionHistoryCommandService,
+            @Value("${app.leaderboard.position-history.enabled:true}") boolean enabled,
+            @Value("${app.leaderboard.position-history.chunk-size:1000}") int chunkSize) {
+        this.leaderboardRankIndex = leaderboardRankIndex;
+        this.leaderboardPositionHistoryCommandService = leaderboardPositionHistoryCommandService;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Snapshot the standings at the end of the (UTC) day that just closed
+     * A failed chunk is logged and skipped; re-running the same day only fills the missing samples
+     */
+    @Scheduled(cron = "${app.leaderboard.position-history.cron:0 0 0 * * *}", zone = "UTC")
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        if (!leaderboardRankIndex.isLoaded()) {
+            logger.warn("Skipping leaderboard position snapshot: rank index not loaded yet");
+            return;
+        }
+
+        var snapshotDate = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        var ranking = leaderboardRankIndex.snapshot();
+        int appended = 0;
+
+        for (int from = 0; from < ranking.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, ranking.size());
+            var standings = new ArrayList<LeaderboardStanding>(to - from);
+            for (int i = from; i < to; i++) {
+                var entry = ranking.get(i);
+                standings.add(new LeaderboardStanding(entry.userId(), i + 1, entry.points()));
+            }
+
+            try {
+                appended += leaderboardPositionHistoryCommandService.handle(
+                        new RecordLeaderboardPositionSnapshotCommand(snapshotDate, standings));
+            } catch (Exception e) {
+                logger.error("Error recording leaderboard positions {}-{} for {}: {}",
+                        from + 1, to, snapshotDate, e.getMessage(), e);
+            }
+        }
+
+        logger.info("Recorded leaderboard position snapshot for {}: {} of {} users", snapshotDate, appended, ranking.size());
+    }
+}
@@ -0,0 +1,192 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntriesCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leaderboard Update Coalescer
+ * Buffers leaderboard updates per user and flushes them as one batch.
+ *
+ * Only the highest total points of each user is kept, so a burst of score
+ * events (e.g. a class exam) turns into a handful of batched rank updates.
+ * Totals only ever grow and score events are delivered asynchronously, out of
+ * order, so keeping the highest one means a late event with a stale total can
+ * never overwrite a newer one.
+ * A flush happens every flush interval, or as soon as the buffer reaches
+ * the configured size threshold, and once more on shutdown.
+ *
+ * If a batch fails, its updates are retried one by one, so a single failing
+ * update cannot hold back the others. An update that keeps failing is dropped
+ * after the configured number of attempts.
+ *
+ * Buffered updates live in memory only: a crash loses at most one flush
+ * interval of updates, and an affected entry stays behind until the next
+ * score event of its user carries the new total.
+ *
+ * Metrics:
+ * - leaderboard.coalescer.buffer.depth: users waiting to be flushed
+ * - leaderboard.coalescer.flush.latency: time spent applying a batch
+ * - leaderboard.coalescer.updates.received / leaderboard.coalescer.updates.flushed
+ * - leaderboard.coalescer.updates.dropped: updates given up after the maximum attempts
+ */
+@Component
+public class LeaderboardUpdateCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardUpdateCoalescer.class);
+
+    private final LeaderboardCommandService leaderboardCommandService;
+    private final ConcurrentHashMap<String, Integer> pendingPointsByUserId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> failedAttemptsByUserId = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final Timer flushTimer;
+    private final Counter receivedCounter;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public LeaderboardUpdateCoalescer(
+            LeaderboardCommandService leaderboardCommandService,
+            MeterRegistry meterRegistry,
+            @Value("${app.leaderboard.coalescing.max-batch-size:500}") int maxBatchSize,
+            @Value("${app.leaderboard.coalescing.max-attempts:3}") int maxAttempts) {
+        this.leaderboardCommandService = leaderboardCommandService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("leaderboard.coalescer.buffer.depth", pendingPointsByUserId, ConcurrentHashMap::size)
+                .description("Users with a leaderboard update waiting to be flushed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("leaderboard.coalescer.flush.latency")
+                .description("Time spent applying a batch of coalesced leaderboard updates")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("leaderboard.coalescer.updates.received")
+                .description("Leaderboard updates submitted to the coalescer")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("leaderboard.coalescer.updates.flushed")
+                .description("Leaderboard updates applied after coalescing")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("leaderboard.coalescer.updates.dropped")
+                .description("Leaderboard updates dropped after failing the maximum number of attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffer an update, merged with any pending update for the same user
+     *
+     * @param userId User identifier
+     * @param totalPoints Total points of the user carried by the score event
+     */
+    public void submit(String userId, Integer totalPoints) {
+        pendingPointsByUserId.merge(userId, totalPoints, Math::max);
+        receivedCounter.increment();
+
+        if (pendingPointsByUserId.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Number of users waiting to be flushed
+     *
+     * @return Buffer depth
+     */
+    public int getBufferDepth() {
+        return pendingPointsByUserId.size();
+    }
+
+    /**
+     * Flush every pending update as one batch
+     * Runs on the configured interval; concurrent calls are skipped while a flush is in progress.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.coalescing.flush-interval-ms:500}")
+    public void flush() {
+        if (pendingPointsByUserId.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            var batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            try {
+                flushTimer.record(() -> leaderboardCommandService.handle(new UpdateLeaderboardEntriesCommand(batch)));
+                flushedCounter.increment(batch.size());
+                batch.forEach(update -> failedAttemptsByUserId.remove(update.userId()));
+                logger.info("Flushed {} coalesced leaderboard updates", batch.size());
+            } catch (Exception e) {
+                logger.error("Error flushing {} coalesced leaderboard updates, retrying them one by one: {}",
+                        batch.size(), e.getMessage(), e);
+                batch.forEach(this::flushSingle);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flush whatever is left before the application shuts down
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Apply one update of a failed batch in its own transaction.
+     * On failure the update is put back unless a higher total for the same user arrived meanwhile,
+     * and dropped once it has failed the maximum number of attempts.
+     */
+    private void flushSingle(UpdateLeaderboardEntryCommand update) {
+        try {
+            leaderboardCommandService.handle(update);
+            flushedCounter.increment();
+            failedAttemptsByUserId.remove(update.userId());
+        } catch (Exception e) {
+            int attempts = failedAttemptsByUserId.merge(update.userId(), 1, Integer::sum);
+            if (attempts >= maxAttempts) {
+                failedAttemptsByUserId.remove(update.userId());
+                droppedCounter.increment();
+                logger.error("Dropping leaderboard update for user {} ({} points) after {} failed attempts: {}",
+                        update.userId(), update.totalPoints(), attempts, e.getMessage(), e);
+                return;
+            }
+            var pendingPoints = pendingPointsByUserId.merge(update.userId(), update.totalPoints(), Math::max);
+            if (pendingPoints.intValue() != update.totalPoints()) {
+                // A newer update replaces the failed one and starts with a clean attempt count
+                failedAttemptsByUserId.remove(update.userId());
+            }
+            logger.warn("Leaderboard update for user {} failed (attempt {} of {}): {}",
+                    update.userId(), attempts, maxAttempts, e.getMessage());
+        }
+    }
+
+    private List<UpdateLeaderboardEntryCommand> drain() {
+        var batch = new ArrayList<UpdateLeaderboardEntryCommand>(pendingPointsByUserId.size());
+        for (String userId : pendingPointsByUserId.keySet()) {
+            var totalPoints = pendingPointsByUserId.remove(userId);
+            if (totalPoints != null) {
+                batch.add(new UpdateLeaderboardEntryCommand(userId, totalPoints));
+            }
+        }
+        return batch;
+    }
+}
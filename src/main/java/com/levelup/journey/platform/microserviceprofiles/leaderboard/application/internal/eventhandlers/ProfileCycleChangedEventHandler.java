@@ -0,0 +1,46 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCycleCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events.ProfileCycleChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Profile Cycle Changed Event Handler
+ * Moves users between the per-cycle leaderboards when their student cycle changes
+ */
+@Service
+public class ProfileCycleChangedEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileCycleChangedEventHandler.class);
+    private final LeaderboardCommandService leaderboardCommandService;
+
+    public ProfileCycleChangedEventHandler(LeaderboardCommandService leaderboardCommandService) {
+        this.leaderboardCommandService = leaderboardCommandService;
+    }
+
+    /**
+     * Handle ProfileCycleChangedEvent
+     * Runs once the profile update is committed, so a rolled back update never moves the user
+     *
+     * @param event The ProfileCycleChangedEvent
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Async
+    public void on(ProfileCycleChangedEvent event) {
+        logger.info("Received ProfileCycleChangedEvent for user {}: {} → {}",
+                event.getUserId(), event.getPreviousCycle(), event.getCycle());
+
+        try {
+            leaderboardCommandService.handle(new UpdateLeaderboardEntryCycleCommand(event.getUserId(), event.getCycle()));
+        } catch (Exception e) {
+            logger.error("Error handling ProfileCycleChangedEvent for user {}: {}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
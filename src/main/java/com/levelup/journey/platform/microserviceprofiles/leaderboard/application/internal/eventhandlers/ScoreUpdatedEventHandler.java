@@ -1,27 +1,40 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
 
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordWindowedScoreCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.events.ScoreUpdatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
 
 /**
  * Score Updated Event Handler
  * Handles score update events from Scores BC to update leaderboard
+ *
+ * When coalescing is enabled (app.leaderboard.coalescing.enabled) updates are
+ * buffered in the {@link LeaderboardUpdateCoalescer} and applied in batches;
+ * otherwise each event updates the leaderboard immediately.
  */
 @Service("leaderboardScoreUpdatedEventHandler")
 public class ScoreUpdatedEventHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ScoreUpdatedEventHandler.class);
     private final LeaderboardCommandService leaderboardCommandService;
+    private final LeaderboardUpdateCoalescer leaderboardUpdateCoalescer;
+    private final boolean coalescingEnabled;
 
-    public ScoreUpdatedEventHandler(LeaderboardCommandService leaderboardCommandService) {
+    public ScoreUpdatedEventHandler(LeaderboardCommandService leaderboardCommandService,
+                                    LeaderboardUpdateCoalescer leaderboardUpdateCoalescer,
+                                    @Value("${app.leaderboard.coalescing.enabled:true}") boolean coalescingEnabled) {
         this.leaderboardCommandService = leaderboardCommandService;
+        this.leaderboardUpdateCoalescer = leaderboardUpdateCoalescer;
+        this.coalescingEnabled = coalescingEnabled;
     }
 
     /**
@@ -33,12 +46,26 @@ public class ScoreUpdatedEventHandler {
      */
     @EventListener
     @Async
-    @Transactional
     public void on(ScoreUpdatedEvent event) {
         logger.info("Received ScoreUpdatedEvent for user {} with {} total points and {} ms execution time",
                 event.getUserId(), event.getNewTotalPoints(), event.getExecutionTimeMs());
 
         try {
+            // Weekly and monthly leaderboards only need the points earned by this score
+            if (event.getPointsEarned() != null && event.getPointsEarned() != 0) {
+                leaderboardCommandService.handle(new RecordWindowedScoreCommand(
+                        event.getUserId(),
+                        event.getPointsEarned(),
+                        event.getOccurredOn().atZone(ZoneId.systemDefault()).toInstant()
+                ));
+            }
+
+            if (coalescingEnabled) {
+                // Only the latest total per user is kept until the next flush
+                leaderboardUpdateCoalescer.submit(event.getUserId(), event.getNewTotalPoints());
+                return;
+            }
+
             // Update leaderboard entry with new total points
             var command = new UpdateLeaderboardEntryCommand(
                     event.getUserId(),
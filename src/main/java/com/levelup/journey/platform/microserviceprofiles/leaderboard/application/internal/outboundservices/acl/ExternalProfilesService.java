@@ -0,0 +1,53 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl;
+
+import com.levelup.journey.platform.microserviceprofiles.profiles.interfaces.acl.ProfilesContextFacade;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * External Profiles Service
+ * ACL implementation for accessing Profiles BC from Leaderboard BC
+ */
+@Service("leaderboardExternalProfilesService")
+public class ExternalProfilesService {
+
+    private final ProfilesContextFacade profilesContextFacade;
+
+    public ExternalProfilesService(ProfilesContextFacade profilesContextFacade) {
+        this.profilesContextFacade = profilesContextFacade;
+    }
+
+    /**
+     * Resolve a student cycle name, ignoring case
+     *
+     * @param cycle Student cycle name as given by the client
+     * @return Optional of the canonical cycle name, empty if the cycle does not exist
+     */
+    public Optional<String> resolveStudentCycle(String cycle) {
+        return profilesContextFacade.getStudentCycles().stream()
+                .filter(name -> name.equalsIgnoreCase(cycle))
+                .findFirst();
+    }
+
+    /**
+     * Fetch all student cycle names
+     *
+     * @return Student cycle names
+     */
+    public List<String> fetchStudentCycles() {
+        return profilesContextFacade.getStudentCycles();
+    }
+
+    /**
+     * Fetch the student cycle of every user that has one
+     * Used to load the per-cycle leaderboards
+     *
+     * @return Map of userId to student cycle name
+     */
+    public Map<String, String> fetchStudentCyclesByUserId() {
+        return profilesContextFacade.getStudentCyclesByUserId();
+    }
+}
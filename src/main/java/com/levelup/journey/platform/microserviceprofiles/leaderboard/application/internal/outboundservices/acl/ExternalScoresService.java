@@ -3,6 +3,7 @@ package com.levelup.journey.platform.microserviceprofiles.leaderboard.applicatio
 import com.levelup.journey.platform.microserviceprofiles.scores.interfaces.acl.ScoresContextFacade;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.Map;
 import java.util.Optional;
 
@@ -40,6 +41,17 @@ public class ExternalScoresService {
         return scoresContextFacade.getAllUserTotalPoints();
     }
 
+    /**
+     * Fetch the points earned per user per UTC day since a given day
+     * Used to load the time-windowed leaderboards
+     *
+     * @param since First UTC day (inclusive)
+     * @return Map of userId to points per day
+     */
+    public Map<String, Map<LocalDate, Integer>> fetchDailyPointsByUserSince(LocalDate since) {
+        return scoresContextFacade.getDailyPointsByUserSince(since);
+    }
+
     /**
      * Check if a user has any scores
      *
@@ -1,46 +1,103 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.queryservices;
 
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl.ExternalProfilesService;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetApproximateUserPositionQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetCycleLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardAroundUserQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPageQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPositionHistoryQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardStatsQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardTotalUsersQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500PageQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500Query;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetUserPositionQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetWindowedLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardPage;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardCursor;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionSample;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStats;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardPage;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardPositionHistoryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.CycleLeaderboards;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.LeaderboardRankIndex;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.PointsHistogram;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.RankedEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.TimeWindowedLeaderboards;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Leaderboard Query Service Implementation
  * Handles all query operations for leaderboard
+ *
+ * Pages are read with keyset (seek) pagination on (total points, created at, user ID).
+ * Offset based queries are kept as a compatibility shim: the entry right before
+ * the requested offset is resolved through the {@link LeaderboardRankIndex} and
+ * used as the seek cursor, so no rows are scanned and discarded.
  */
 @Service
 public class LeaderboardQueryServiceImpl implements LeaderboardQueryService {
 
     private static final Logger logger = LoggerFactory.getLogger(LeaderboardQueryServiceImpl.class);
+    private static final int TOP_500 = 500;
+    private static final int[] STATS_PERCENTILES = {50, 75, 90, 95, 99};
     private final LeaderboardEntryRepository leaderboardEntryRepository;
+    private final LeaderboardRankIndex leaderboardRankIndex;
+    private final PointsHistogram pointsHistogram;
+    private final TimeWindowedLeaderboards timeWindowedLeaderboards;
+    private final CycleLeaderboards cycleLeaderboards;
+    private final ExternalProfilesService externalProfilesService;
+    private final LeaderboardPositionHistoryRepository leaderboardPositionHistoryRepository;
 
-    public LeaderboardQueryServiceImpl(LeaderboardEntryRepository leaderboardEntryRepository) {
+    public LeaderboardQueryServiceImpl(LeaderboardEntryRepository leaderboardEntryRepository,
+                                       LeaderboardRankIndex leaderboardRankIndex,
+                                       PointsHistogram pointsHistogram,
+                                       TimeWindowedLeaderboards timeWindowedLeaderboards,
+                                       CycleLeaderboards cycleLeaderboards,
+                                       ExternalProfilesService externalProfilesService,
+                                       LeaderboardPositionHistoryRepository leaderboardPositionHistoryRepository) {
         this.leaderboardEntryRepository = leaderboardEntryRepository;
+        this.leaderboardRankIndex = leaderboardRankIndex;
+        this.pointsHistogram = pointsHistogram;
+        this.timeWindowedLeaderboards = timeWindowedLeaderboards;
+        this.cycleLeaderboards = cycleLeaderboards;
+        this.externalProfilesService = externalProfilesService;
+        this.leaderboardPositionHistoryRepository = leaderboardPositionHistoryRepository;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<LeaderboardEntry> handle(GetLeaderboardQuery query) {
         logger.debug("Fetching leaderboard with limit: {} and offset: {}", query.limit(), query.offset());
+        return seekFromOffset(query.offset(), query.limit());
+    }
 
-        var pageable = PageRequest.of(
-                query.offset() / query.limit(), // page number
-                query.limit()                   // page size
-        );
-
-        return leaderboardEntryRepository.findTopEntriesByPoints(pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> handle(GetLeaderboardPageQuery query) {
+        logger.debug("Fetching leaderboard page with limit: {} after cursor: {}", query.limit(), query.cursor());
+        return seek(query.cursor(), query.limit());
     }
 
     @Override
@@ -56,15 +113,251 @@ public class LeaderboardQueryServiceImpl implements LeaderboardQueryService {
         return entry;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Integer handle(GetApproximateUserPositionQuery query) {
+        if (!leaderboardRankIndex.isLoaded() || !pointsHistogram.isLoaded()) {
+            // In-memory structures not ready yet: fall back to the persisted position
+            return leaderboardEntryRepository.findByUserId(new LeaderboardUserId(query.userId()))
+                    .map(LeaderboardEntry::getPosition)
+                    .orElse(0);
+        }
+
+        var rankedEntry = leaderboardRankIndex.get(query.userId());
+        if (rankedEntry.isEmpty()) {
+            return 0;
+        }
+
+        // Fewer than 500 users in higher buckets: the user may be in the TOP 500, answer exactly
+        var points = rankedEntry.get().points();
+        if (pointsHistogram.countInHigherBuckets(points) < TOP_500) {
+            return leaderboardRankIndex.rankOf(query.userId());
+        }
+
+        return pointsHistogram.estimatePosition(points);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> handle(GetLeaderboardAroundUserQuery query) {
+        logger.debug("Fetching leaderboard window of radius {} around user {}", query.radius(), query.userId());
+
+        if (!leaderboardRankIndex.isLoaded()) {
+            // Rank index not ready yet: use the persisted positions
+            var entry = leaderboardEntryRepository.findByUserId(new LeaderboardUserId(query.userId()));
+            if (entry.isEmpty()) {
+                return List.of();
+            }
+            var position = entry.get().getPosition();
+            return leaderboardEntryRepository.findByPositionRange(
+                    Math.max(1, position - query.radius()),
+                    position + query.radius()
+            );
+        }
+
+        // O(log n) rank lookup followed by an O(log n + k) range scan of the sorted order
+        var position = leaderboardRankIndex.rankOf(query.userId());
+        if (position == 0) {
+            return List.of();
+        }
+        var fromIndex = Math.max(0, position - 1 - query.radius());
+        var window = leaderboardRankIndex.range(fromIndex, position + query.radius() - fromIndex);
+
+        // One IN query for the whole window, re-ordered by rank
+        var entriesByUserId = leaderboardEntryRepository.findByUserIdUserIdIn(
+                        window.stream().map(RankedEntry::userId).toList()).stream()
+                .collect(Collectors.toMap(LeaderboardEntry::getUserId, Function.identity()));
+
+        return window.stream()
+                .map(rankedEntry -> entriesByUserId.get(rankedEntry.userId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<LeaderboardEntry> handle(GetTop500Query query) {
         logger.debug("Fetching top 500 leaderboard entries (limit: {}, offset: {})", query.limit(), query.offset());
 
-        var pageable = PageRequest.of(
-                query.offset() / query.limit(), // page number
-                query.limit()                   // page size
+        // Never read past the TOP 500 boundary
+        var limit = Math.min(query.limit(), TOP_500 - query.offset());
+        return seekFromOffset(query.offset(), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> handle(GetTop500PageQuery query) {
+        logger.debug("Fetching top 500 leaderboard page (limit: {}) after cursor: {}", query.limit(), query.cursor());
+
+        return seek(query.cursor(), query.limit()).stream()
+                .filter(LeaderboardEntry::isTop500)
+                .toList();
+    }
+
+    @Override
+    public WindowedLeaderboardPage handle(GetWindowedLeaderboardQuery query) {
+        logger.debug("Fetching {} leaderboard (limit: {}, offset: {}, cursor: {})",
+                query.window(), query.limit(), query.offset(), query.cursor());
+
+        var window = query.window();
+        var fromIndex = query.cursor() != null
+                ? timeWindowedLeaderboards.indexAfter(window, query.cursor().points(), query.cursor().userId())
+                : query.offset();
+
+        var rankedEntries = timeWindowedLeaderboards.range(window, fromIndex, query.limit());
+        var entries = new ArrayList<WindowedLeaderboardEntry>(rankedEntries.size());
+        for (int i = 0; i < rankedEntries.size(); i++) {
+            var rankedEntry = rankedEntries.get(i);
+            entries.add(new WindowedLeaderboardEntry(rankedEntry.userId(), rankedEntry.points(), fromIndex + i + 1));
+        }
+
+        return new WindowedLeaderboardPage(entries, timeWindowedLeaderboards.size(window));
+    }
+
+    @Override
+    public CycleLeaderboardPage handle(GetCycleLeaderboardQuery query) {
+        logger.debug("Fetching {} cycle leaderboard (limit: {}, offset: {}, cursor: {})",
+                query.cycle(), query.limit(), query.offset(), query.cursor());
+
+        var cycle = externalProfilesService.resolveStudentCycle(query.cycle())
+                .orElseThrow(() -> new IllegalArgumentException("Unknown student cycle: " + query.cycle()));
+
+        var fromIndex = query.cursor() != null
+                ? cycleLeaderboards.indexAfter(cycle, new RankedEntry(
+                        query.cursor().userId(), query.cursor().points(), query.cursor().createdAtMillis()))
+                : query.offset();
+
+        // Served entirely from memory: cycle positions from the partition, global positions from the rank index
+        var rankedEntries = cycleLeaderboards.range(cycle, fromIndex, query.limit());
+        var entries = new ArrayList<CycleLeaderboardEntry>(rankedEntries.size());
+        for (int i = 0; i < rankedEntries.size(); i++) {
+            var rankedEntry = rankedEntries.get(i);
+            entries.add(new CycleLeaderboardEntry(
+                    rankedEntry.userId(),
+                    rankedEntry.points(),
+                    rankedEntry.createdAtMillis(),
+                    fromIndex + i + 1,
+                    leaderboardRankIndex.rankOf(rankedEntry.userId())
+            ));
+        }
+
+        return new CycleLeaderboardPage(cycle, entries, cycleLeaderboards.size(cycle));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardPositionSample> handle(GetLeaderboardPositionHistoryQuery query) {
+        logger.debug("Fetching {} days of position history for user: {}", query.days(), query.userId());
+
+        var to = LocalDate.now(ZoneOffset.UTC);
+        var from = to.minusDays(query.days() - 1L);
+
+        // One row per month: a year is at most 13 rows from a single index range scan
+        return leaderboardPositionHistoryRepository
+                .findByUserIdAndMonthRange(query.userId(), from.withDayOfMonth(1), to.withDayOfMonth(1)).stream()
+                .flatMap(history -> history.getSamples().stream())
+                .filter(sample -> !sample.date().isBefore(from))
+                .toList();
+    }
+
+    @Override
+    public LeaderboardStats handle(GetLeaderboardStatsQuery query) {
+        var distribution = pointsHistogram.distribution();
+        var percentiles = new LinkedHashMap<Integer, Integer>();
+
+        // Exact order statistics from the rank index when available; otherwise estimated from the histogram
+        if (leaderboardRankIndex.isLoaded() && leaderboardRankIndex.size() > 0) {
+            int total = leaderboardRankIndex.size();
+            for (int percentile : STATS_PERCENTILES) {
+                // Points of the lowest-ranked user among the top (100 - percentile)%
+                int rankFromBottom = Math.max(1, (int) Math.ceil(percentile * total / 100.0));
+                percentiles.put(percentile, pointsAtRank(total - rankFromBottom + 1));
+            }
+            return new LeaderboardStats(
+                    (long) total,
+                    pointsAtRank(total),
+                    pointsAtRank(1),
+                    distribution.mean(),
+                    percentiles,
+                    distribution
+            );
+        }
+
+        for (int percentile : STATS_PERCENTILES) {
+            percentiles.put(percentile, distribution.quantile(percentile / 100.0));
+        }
+        return new LeaderboardStats(
+                distribution.total(),
+                distribution.quantile(0.0),
+                distribution.quantile(1.0),
+                distribution.mean(),
+                percentiles,
+                distribution
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long handle(GetLeaderboardTotalUsersQuery query) {
+        if (!leaderboardRankIndex.isLoaded()) {
+            // Rank index not ready yet: count the persisted entries
+            return leaderboardEntryRepository.countTotalEntries();
+        }
+        return (long) leaderboardRankIndex.size();
+    }
+
+    private int pointsAtRank(int position) {
+        return leaderboardRankIndex.entryAtRank(position).map(RankedEntry::points).orElse(0);
+    }
+
+    /**
+     * Read the entries that follow a cursor with an index seek
+     *
+     * @param cursor Position of the last entry already returned, null for the first page
+     * @param limit Page size
+     * @return Entries in leaderboard order
+     */
+    private List<LeaderboardEntry> seek(LeaderboardCursor cursor, int limit) {
+        var pageable = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return leaderboardEntryRepository.findTopEntriesByPoints(pageable);
+        }
+        // Timestamp keeps sub-millisecond precision of the stored creation time
+        return leaderboardEntryRepository.findEntriesAfter(
+                cursor.points(),
+                Timestamp.from(cursor.createdAt()),
+                cursor.userId(),
+                pageable
         );
-        return leaderboardEntryRepository.findTop500(pageable);
+    }
+
+    /**
+     * Offset compatibility shim
+     * Turns an offset into a seek cursor using the entry at that position
+     *
+     * @param offset Number of entries to skip
+     * @param limit Page size
+     * @return Entries at positions offset + 1 .. offset + limit
+     */
+    private List<LeaderboardEntry> seekFromOffset(int offset, int limit) {
+        if (offset == 0) {
+            return seek(null, limit);
+        }
+
+        if (leaderboardRankIndex.isLoaded()) {
+            var anchor = leaderboardRankIndex.entryAtRank(offset);
+            if (anchor.isEmpty()) {
+                return List.of();
+            }
+            var anchorEntry = leaderboardEntryRepository.findByUserId(new LeaderboardUserId(anchor.get().userId()));
+            if (anchorEntry.isPresent()) {
+                return seek(anchorEntry.get().toCursor(), limit);
+            }
+        }
+
+        // Rank index not ready yet: read the leading rows and skip the offset in memory
+        logger.debug("Rank index unavailable, paging leaderboard by offset {}", offset);
+        var entries = leaderboardEntryRepository.findTopEntriesByPoints(PageRequest.of(0, offset + limit));
+        return entries.size() <= offset ? List.of() : entries.subList(offset, entries.size());
     }
 }
@@ -1,6 +1,7 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates;
 
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardCursor;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPoints;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPosition;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
@@ -10,6 +11,8 @@ import jakarta.persistence.*;
 /**
  * Leaderboard Entry Aggregate Root
  * Represents a user's entry in the global leaderboard
+ *
+ * Its ranking and position indexes are owned by the Flyway migrations (V2, V8).
  */
 @Entity
 @Table(name = "leaderboard_entries")
@@ -33,6 +36,10 @@ public class LeaderboardEntry extends AuditableAbstractAggregateRoot<Leaderboard
     })
     private LeaderboardPosition position;
 
+    // Incremented on every points write; lets replicas discard out-of-order change events
+    @Column(name = "points_version")
+    private Long pointsVersion = 1L;
+
     protected LeaderboardEntry() {
         // JPA constructor
     }
@@ -71,6 +78,7 @@ public class LeaderboardEntry extends AuditableAbstractAggregateRoot<Leaderboard
     public void updatePointsAndPosition(Integer newPoints, Integer newPosition) {
         this.totalPoints = new LeaderboardPoints(newPoints);
         this.position = new LeaderboardPosition(newPosition);
+        this.pointsVersion = getPointsVersion() + 1;
     }
 
     /**
@@ -82,6 +90,15 @@ public class LeaderboardEntry extends AuditableAbstractAggregateRoot<Leaderboard
         this.position = new LeaderboardPosition(newPosition);
     }
 
+    /**
+     * Keyset cursor pointing right after this entry
+     *
+     * @return The {@link LeaderboardCursor} of this entry
+     */
+    public LeaderboardCursor toCursor() {
+        return new LeaderboardCursor(getTotalPoints(), getCreatedAt().toInstant(), getUserId());
+    }
+
     // Getters
 
     public String getUserId() {
@@ -99,4 +116,9 @@ public class LeaderboardEntry extends AuditableAbstractAggregateRoot<Leaderboard
     public boolean isTop500() {
         return position.isTop500();
     }
+
+    public Long getPointsVersion() {
+        // Rows written before the column existed have no version yet
+        return pointsVersion != null ? pointsVersion : 0L;
+    }
 }
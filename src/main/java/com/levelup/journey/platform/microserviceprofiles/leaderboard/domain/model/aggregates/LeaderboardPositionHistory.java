@@ -0,0 +1,160 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionSample;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leaderboard Position History Aggregate Root
+ * One month of a user's daily leaderboard positions, stored as one compact row.
+ *
+ * Samples are delta-encoded against the previous sample of the month as three
+ * variable-length integers (day, position, points), so a day usually costs
+ * 3 to 5 bytes instead of a full row. The last sample is also kept in plain
+ * columns, which lets the daily snapshot append without decoding the series.
+ */
+@Entity
+@Table(name = "leaderboard_position_history", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leaderboard_position_history_user_month", columnNames = {"user_id", "month_start"})
+})
+public class LeaderboardPositionHistory extends AuditableAbstractAggregateRoot<LeaderboardPositionHistory> {
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "userId", column = @Column(name = "user_id", nullable = false))
+    })
+    private LeaderboardUserId userId;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount = 0;
+
+    @Column(name = "last_day", nullable = false)
+    private Integer lastDay = 0;
+
+    @Column(name = "last_position", nullable = false)
+    private Integer lastPosition = 0;
+
+    @Column(name = "last_points", nullable = false)
+    private Integer lastPoints = 0;
+
+    @Column(name = "samples", nullable = false)
+    private byte[] samples = new byte[0];
+
+    protected LeaderboardPositionHistory() {
+        // JPA constructor
+    }
+
+    /**
+     * Constructor for the history of a user in a given month
+     *
+     * @param userId User identifier
+     * @param month Any day of the month
+     */
+    public LeaderboardPositionHistory(String userId, LocalDate month) {
+        this.userId = new LeaderboardUserId(userId);
+        this.monthStart = month.withDayOfMonth(1);
+    }
+
+    /**
+     * Append the position of a day to the series
+     * Days must be recorded in order; a day already covered is ignored, so a re-run snapshot is harmless
+     *
+     * @param day The snapshot day, within this month
+     * @param position Leaderboard position on that day
+     * @param points Total points on that day
+     * @return true if the sample was appended
+     */
+    public boolean record(LocalDate day, int position, int points) {
+        if (!monthStart.equals(day.withDayOfMonth(1))) {
+            throw new IllegalArgumentException("Day " + day + " is outside the month starting " + monthStart);
+        }
+        int dayOfMonth = day.getDayOfMonth();
+        if (dayOfMonth <= lastDay) {
+            return false;
+        }
+
+        var encoded = new ByteArrayOutputStream(samples.length + 8);
+        encoded.writeBytes(samples);
+        writeVarInt(encoded, dayOfMonth - lastDay);
+        writeVarInt(encoded, zigZag(position - lastPosition));
+        writeVarInt(encoded, zigZag(points - lastPoints));
+
+        this.samples = encoded.toByteArray();
+        this.sampleCount = sampleCount + 1;
+        this.lastDay = dayOfMonth;
+        this.lastPosition = position;
+        this.lastPoints = points;
+        return true;
+    }
+
+    /**
+     * Decode the series
+     *
+     * @return Samples of the month in day order
+     */
+    public List<LeaderboardPositionSample> getSamples() {
+        var result = new ArrayList<LeaderboardPositionSample>(sampleCount);
+        int[] offset = {0};
+        int day = 0;
+        int position = 0;
+        int points = 0;
+        while (offset[0] < samples.length) {
+            day += readVarInt(samples, offset);
+            position += unZigZag(readVarInt(samples, offset));
+            points += unZigZag(readVarInt(samples, offset));
+            result.add(new LeaderboardPositionSample(monthStart.withDayOfMonth(day), position, points));
+        }
+        return result;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(byte[] bytes, int[] offset) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = bytes[offset[0]++];
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    // Getters
+
+    public String getUserId() {
+        return userId.userId();
+    }
+
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    public Integer getSampleCount() {
+        return sampleCount;
+    }
+}
@@ -0,0 +1,30 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+/**
+ * Apply Replicated Leaderboard Entry Command
+ * Applies a leaderboard entry change written by another instance to the local rank structures
+ * The points delta and the time it was earned feed the time-windowed leaderboards
+ */
+public record ApplyReplicatedLeaderboardEntryCommand(String userId, Integer points, Long createdAtMillis, Long version,
+                                                     Integer pointsDelta, Long earnedAtMillis) {
+    public ApplyReplicatedLeaderboardEntryCommand {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (points == null || points < 0) {
+            throw new IllegalArgumentException("Points cannot be null or negative");
+        }
+        if (createdAtMillis == null) {
+            throw new IllegalArgumentException("Created at cannot be null");
+        }
+        if (version == null || version < 0) {
+            throw new IllegalArgumentException("Version cannot be null or negative");
+        }
+        if (pointsDelta == null) {
+            throw new IllegalArgumentException("Points delta cannot be null");
+        }
+        if (earnedAtMillis == null) {
+            throw new IllegalArgumentException("Earned at cannot be null");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+/**
+ * Rebuild Leaderboard Rank Index Command
+ * Reloads the in-memory rank index from the persisted leaderboard entries
+ */
+public record RebuildLeaderboardRankIndexCommand() {
+    // No parameters needed - operates on all entries
+}
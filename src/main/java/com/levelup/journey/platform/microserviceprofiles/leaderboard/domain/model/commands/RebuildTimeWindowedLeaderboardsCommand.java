@@ -0,0 +1,8 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+/**
+ * Rebuild Time Windowed Leaderboards Command
+ * Reloads the weekly and monthly leaderboards from the score history
+ */
+public record RebuildTimeWindowedLeaderboardsCommand() {
+}
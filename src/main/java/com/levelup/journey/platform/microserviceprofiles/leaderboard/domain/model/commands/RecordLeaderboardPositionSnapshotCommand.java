@@ -0,0 +1,22 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStanding;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Record Leaderboard Position Snapshot Command
+ * Appends the standings of a chunk of users to their daily position history
+ */
+public record RecordLeaderboardPositionSnapshotCommand(LocalDate snapshotDate, List<LeaderboardStanding> standings) {
+    public RecordLeaderboardPositionSnapshotCommand {
+        if (snapshotDate == null) {
+            throw new IllegalArgumentException("Snapshot date cannot be null");
+        }
+        if (standings == null) {
+            throw new IllegalArgumentException("Standings cannot be null");
+        }
+        standings = List.copyOf(standings);
+    }
+}
@@ -0,0 +1,21 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+import java.time.Instant;
+
+/**
+ * Record Windowed Score Command
+ * Adds points earned at a given time to the time-windowed leaderboards
+ */
+public record RecordWindowedScoreCommand(String userId, Integer points, Instant earnedAt) {
+    public RecordWindowedScoreCommand {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (points == null) {
+            throw new IllegalArgumentException("Points cannot be null");
+        }
+        if (earnedAt == null) {
+            throw new IllegalArgumentException("Earned at cannot be null");
+        }
+    }
+}
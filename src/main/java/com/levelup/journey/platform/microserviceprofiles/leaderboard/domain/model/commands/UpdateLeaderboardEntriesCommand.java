@@ -0,0 +1,16 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Update Leaderboard Entries Command
+ * Applies a batch of leaderboard entry updates (at most one per user) in a single transaction
+ */
+public record UpdateLeaderboardEntriesCommand(List<UpdateLeaderboardEntryCommand> updates) {
+    public UpdateLeaderboardEntriesCommand {
+        if (updates == null || updates.isEmpty()) {
+            throw new IllegalArgumentException("Updates cannot be null or empty");
+        }
+        updates = List.copyOf(updates);
+    }
+}
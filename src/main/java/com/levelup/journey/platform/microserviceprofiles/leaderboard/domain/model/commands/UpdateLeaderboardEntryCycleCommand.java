@@ -0,0 +1,16 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands;
+
+/**
+ * Update Leaderboard Entry Cycle Command
+ * Moves a user to the leaderboard of its new student cycle; a null cycle removes it from every cycle leaderboard
+ */
+public record UpdateLeaderboardEntryCycleCommand(String userId, String cycle) {
+    public UpdateLeaderboardEntryCycleCommand {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (cycle != null && cycle.isBlank()) {
+            throw new IllegalArgumentException("Cycle cannot be empty");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leaderboard Entry Changed Event
+ * Integration event published to the compacted leaderboard changes topic after
+ * a leaderboard entry's points are committed. Every instance applies it to its
+ * local rank structures, so replicas share a consistent rank view.
+ *
+ * Keyed by user ID; the version orders changes of the same user.
+ */
+@Getter
+public class LeaderboardEntryChangedEvent {
+
+    private final String userId;
+    private final Integer points;
+    private final Long createdAtMillis;
+    private final Long version;
+    private final Integer pointsDelta;
+    private final Long earnedAtMillis;
+    private final String sourceInstanceId;
+    private final LocalDateTime occurredOn;
+
+    /**
+     * Constructor
+     *
+     * @param userId The user's unique identifier
+     * @param points The new total points
+     * @param createdAtMillis Creation time of the entry, used for tie-breaking
+     * @param version Points version of the entry
+     * @param pointsDelta Points added by this change, recorded in the time-windowed leaderboards
+     * @param earnedAtMillis Time the points were earned
+     * @param sourceInstanceId Identifier of the instance that wrote the change
+     */
+    public LeaderboardEntryChangedEvent(String userId, Integer points, Long createdAtMillis, Long version,
+                                        Integer pointsDelta, Long earnedAtMillis, String sourceInstanceId) {
+        this.userId = userId;
+        this.points = points;
+        this.createdAtMillis = createdAtMillis;
+        this.version = version;
+        this.pointsDelta = pointsDelta;
+        this.earnedAtMillis = earnedAtMillis;
+        this.sourceInstanceId = sourceInstanceId;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,39 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionDelta;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Leaderboard Positions Changed Event
+ * Integration event carrying every position change of one committed leaderboard write,
+ * so downstream services (community, notifications) do not need to poll the leaderboard.
+ *
+ * Large batches are split into several records sharing the same leaderboard version.
+ * When complete is false some shifted users were left out (e.g. a full recalculation)
+ * and consumers should re-read the positions they care about.
+ */
+@Getter
+public class LeaderboardPositionsChangedEvent {
+
+    private final Long leaderboardVersion;
+    private final List<LeaderboardPositionDelta> changes;
+    private final boolean complete;
+    private final LocalDateTime occurredOn;
+
+    /**
+     * Constructor
+     *
+     * @param leaderboardVersion Version of the leaderboard after the write
+     * @param changes Position changes, at most one per user
+     * @param complete Whether every shifted user is included
+     */
+    public LeaderboardPositionsChangedEvent(Long leaderboardVersion, List<LeaderboardPositionDelta> changes, boolean complete) {
+        this.leaderboardVersion = leaderboardVersion;
+        this.changes = List.copyOf(changes);
+        this.complete = complete;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,22 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Leaderboard Updated Event
+ * Domain event published when leaderboard entries or positions have been written
+ * Used to refresh read models derived from the leaderboard
+ */
+@Getter
+public class LeaderboardUpdatedEvent {
+
+    private final Integer updatedEntries;
+    private final LocalDateTime occurredOn;
+
+    public LeaderboardUpdatedEvent(Integer updatedEntries) {
+        this.updatedEntries = updatedEntries;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
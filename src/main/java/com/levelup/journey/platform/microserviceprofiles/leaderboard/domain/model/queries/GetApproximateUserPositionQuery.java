@@ -0,0 +1,13 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+/**
+ * Get Approximate User Position Query
+ * Retrieves a user's position, exact inside the TOP 500 and estimated from the points histogram beyond it
+ */
+public record GetApproximateUserPositionQuery(String userId) {
+    public GetApproximateUserPositionQuery {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+    }
+}
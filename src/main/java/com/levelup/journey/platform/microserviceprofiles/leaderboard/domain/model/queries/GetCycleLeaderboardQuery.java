@@ -0,0 +1,21 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardCursor;
+
+/**
+ * Get Cycle Leaderboard Query
+ * Retrieves a page of the leaderboard of one student cycle, after the cursor when given, otherwise from the offset
+ */
+public record GetCycleLeaderboardQuery(String cycle, Integer limit, Integer offset, CycleLeaderboardCursor cursor) {
+    public GetCycleLeaderboardQuery {
+        if (cycle == null || cycle.isBlank()) {
+            throw new IllegalArgumentException("Cycle cannot be null or empty");
+        }
+        if (limit == null || limit < 1 || limit > 500) {
+            throw new IllegalArgumentException("Limit must be between 1 and 500");
+        }
+        if (offset == null || offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+/**
+ * Get Leaderboard Around User Query
+ * Retrieves a user's leaderboard entry together with the radius entries above and below it
+ */
+public record GetLeaderboardAroundUserQuery(String userId, Integer radius) {
+    public GetLeaderboardAroundUserQuery {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (radius == null || radius < 0 || radius > 50) {
+            throw new IllegalArgumentException("Radius must be between 0 and 50");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardCursor;
+
+/**
+ * Get Leaderboard Page Query
+ * Retrieves the leaderboard entries that follow a keyset cursor (first page when the cursor is null)
+ */
+public record GetLeaderboardPageQuery(Integer limit, LeaderboardCursor cursor) {
+    public GetLeaderboardPageQuery {
+        if (limit == null || limit < 1 || limit > 500) {
+            throw new IllegalArgumentException("Limit must be between 1 and 500");
+        }
+    }
+}
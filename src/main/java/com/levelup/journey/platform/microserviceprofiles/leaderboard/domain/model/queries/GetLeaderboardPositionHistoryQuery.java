@@ -0,0 +1,16 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+/**
+ * Get Leaderboard Position History Query
+ * Retrieves a user's daily positions over the last given number of days
+ */
+public record GetLeaderboardPositionHistoryQuery(String userId, Integer days) {
+    public GetLeaderboardPositionHistoryQuery {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (days == null || days < 1 || days > 365) {
+            throw new IllegalArgumentException("Days must be between 1 and 365");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+/**
+ * Get Leaderboard Stats Query
+ * Retrieves percentiles and the points distribution of the global leaderboard
+ */
+public record GetLeaderboardStatsQuery() {
+    // No parameters needed - summarizes all entries
+}
@@ -0,0 +1,9 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+/**
+ * Get Leaderboard Total Users Query
+ * Retrieves the number of users ranked in the global leaderboard
+ */
+public record GetLeaderboardTotalUsersQuery() {
+    // No parameters needed - counts all entries
+}
@@ -0,0 +1,15 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardCursor;
+
+/**
+ * Get Top 500 Page Query
+ * Retrieves the TOP 500 entries that follow a keyset cursor (first page when the cursor is null)
+ */
+public record GetTop500PageQuery(Integer limit, LeaderboardCursor cursor) {
+    public GetTop500PageQuery {
+        if (limit == null || (limit != 20 && limit != 500)) {
+            throw new IllegalArgumentException("Limit must be 20 (API pagination) or 500 (internal use)");
+        }
+    }
+}
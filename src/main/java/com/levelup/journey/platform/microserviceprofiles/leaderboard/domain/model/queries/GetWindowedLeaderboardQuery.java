@@ -0,0 +1,22 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardWindow;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardCursor;
+
+/**
+ * Get Windowed Leaderboard Query
+ * Retrieves a page of a time-windowed leaderboard, after the cursor when given, otherwise from the offset
+ */
+public record GetWindowedLeaderboardQuery(LeaderboardWindow window, Integer limit, Integer offset, WindowedLeaderboardCursor cursor) {
+    public GetWindowedLeaderboardQuery {
+        if (window == null) {
+            throw new IllegalArgumentException("Leaderboard window cannot be null");
+        }
+        if (limit == null || limit < 1 || limit > 500) {
+            throw new IllegalArgumentException("Limit must be between 1 and 500");
+        }
+        if (offset == null || offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+    }
+}
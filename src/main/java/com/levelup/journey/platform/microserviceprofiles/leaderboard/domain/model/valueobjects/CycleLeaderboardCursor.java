@@ -0,0 +1,46 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects.KeysetCursorCodec;
+
+/**
+ * Cycle Leaderboard Cursor Value Object
+ * Keyset position (points DESC, created at ASC, user ID ASC) of the last entry returned by a cycle leaderboard page.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+public record CycleLeaderboardCursor(Integer points, Long createdAtMillis, String userId) {
+
+    public CycleLeaderboardCursor {
+        if (points == null) {
+            throw new IllegalArgumentException("Cursor points cannot be null");
+        }
+        if (createdAtMillis == null) {
+            throw new IllegalArgumentException("Cursor creation time cannot be null");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("Cursor user ID cannot be null or empty");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque continuation token
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        return KeysetCursorCodec.encode(points, createdAtMillis, userId);
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static CycleLeaderboardCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 3, values -> new CycleLeaderboardCursor(
+                Integer.valueOf(values[0]),
+                Long.valueOf(values[1]),
+                values[2]));
+    }
+}
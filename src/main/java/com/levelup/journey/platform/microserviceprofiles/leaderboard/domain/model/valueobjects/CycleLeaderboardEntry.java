@@ -0,0 +1,31 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Cycle Leaderboard Entry Value Object
+ * A user's points and position within its student cycle, along with its global position
+ */
+public record CycleLeaderboardEntry(String userId, Integer points, Long createdAtMillis,
+                                    Integer position, Integer globalPosition) {
+    public CycleLeaderboardEntry {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (position == null || position < 1) {
+            throw new IllegalArgumentException("Position must be a positive number");
+        }
+    }
+
+    /**
+     * Check whether the user is in the global TOP 500
+     */
+    public boolean isTop500() {
+        return globalPosition != null && globalPosition >= 1 && globalPosition <= 500;
+    }
+
+    /**
+     * Keyset cursor pointing right after this entry
+     */
+    public CycleLeaderboardCursor toCursor() {
+        return new CycleLeaderboardCursor(points, createdAtMillis, userId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * Cycle Leaderboard Page Value Object
+ * A page of a student cycle leaderboard with the number of ranked users in that cycle
+ */
+public record CycleLeaderboardPage(String cycle, List<CycleLeaderboardEntry> entries, Integer totalUsers) {
+    public CycleLeaderboardPage {
+        entries = entries == null ? List.of() : List.copyOf(entries);
+        totalUsers = totalUsers == null ? 0 : totalUsers;
+    }
+}
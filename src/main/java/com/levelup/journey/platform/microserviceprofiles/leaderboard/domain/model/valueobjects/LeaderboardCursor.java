@@ -0,0 +1,52 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects.KeysetCursorCodec;
+
+import java.time.Instant;
+
+/**
+ * Leaderboard Cursor Value Object
+ * Keyset position of the last entry returned by a leaderboard page.
+ *
+ * Follows the leaderboard ordering (total points DESC, created at ASC, user ID ASC),
+ * the same tie-breaking used by the rank index and the position recalculation,
+ * so the next page is a direct index seek instead of skipping offset rows.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+public record LeaderboardCursor(Integer points, Instant createdAt, String userId) {
+
+    public LeaderboardCursor {
+        if (points == null || points < 0) {
+            throw new IllegalArgumentException("Cursor points cannot be null or negative");
+        }
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time cannot be null");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("Cursor user ID cannot be null or empty");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque continuation token
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        return KeysetCursorCodec.encode(points, createdAt, userId);
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static LeaderboardCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 3, values -> new LeaderboardCursor(
+                Integer.valueOf(values[0]),
+                Instant.parse(values[1]),
+                values[2]));
+    }
+}
@@ -0,0 +1,36 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Leaderboard Position Delta Value Object
+ * A user's move on the global leaderboard; an old position of 0 means the user just entered it
+ */
+public record LeaderboardPositionDelta(String userId, Integer oldPosition, Integer newPosition, Integer points) {
+    public LeaderboardPositionDelta {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (oldPosition == null || oldPosition < 0) {
+            throw new IllegalArgumentException("Old position cannot be null or negative");
+        }
+        if (newPosition == null || newPosition < 1) {
+            throw new IllegalArgumentException("New position must be a positive number");
+        }
+    }
+
+    /**
+     * Merge a later move of the same user into this one
+     *
+     * @param later The later delta
+     * @return A delta from this old position to the later new position
+     */
+    public LeaderboardPositionDelta followedBy(LeaderboardPositionDelta later) {
+        return new LeaderboardPositionDelta(userId, oldPosition, later.newPosition(), later.points());
+    }
+
+    /**
+     * Check whether the user ended up where it started
+     */
+    public boolean isUnchanged() {
+        return oldPosition.equals(newPosition);
+    }
+}
@@ -0,0 +1,21 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Leaderboard Position Sample Value Object
+ * A user's leaderboard position and points on one day
+ */
+public record LeaderboardPositionSample(LocalDate date, Integer position, Integer points) {
+    public LeaderboardPositionSample {
+        if (date == null) {
+            throw new IllegalArgumentException("Sample date cannot be null");
+        }
+        if (position == null || position < 1) {
+            throw new IllegalArgumentException("Position must be a positive number");
+        }
+        if (points == null || points < 0) {
+            throw new IllegalArgumentException("Points cannot be negative");
+        }
+    }
+}
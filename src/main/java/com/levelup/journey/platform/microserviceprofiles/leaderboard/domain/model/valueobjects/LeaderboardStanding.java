@@ -0,0 +1,19 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Leaderboard Standing Value Object
+ * A user's position and points at the moment a snapshot is taken
+ */
+public record LeaderboardStanding(String userId, Integer position, Integer points) {
+    public LeaderboardStanding {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (position == null || position < 1) {
+            throw new IllegalArgumentException("Position must be a positive number");
+        }
+        if (points == null || points < 0) {
+            throw new IllegalArgumentException("Points cannot be negative");
+        }
+    }
+}
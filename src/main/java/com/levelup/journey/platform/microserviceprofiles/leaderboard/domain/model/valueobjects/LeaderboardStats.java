@@ -0,0 +1,30 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import java.util.Map;
+
+/**
+ * Leaderboard Stats Value Object
+ * Summary of the points of every ranked user
+ *
+ * @param totalUsers Number of ranked users
+ * @param minPoints Lowest points, 0 when empty
+ * @param maxPoints Highest points, 0 when empty
+ * @param meanPoints Average points, 0 when empty
+ * @param percentiles Points at each percentile (e.g. 90 -> p90), in ascending percentile order
+ * @param distribution Mergeable bucket counts behind the statistics
+ */
+public record LeaderboardStats(Long totalUsers,
+                               Integer minPoints,
+                               Integer maxPoints,
+                               Double meanPoints,
+                               Map<Integer, Integer> percentiles,
+                               PointsDistribution distribution) {
+    public LeaderboardStats {
+        if (totalUsers == null || totalUsers < 0) {
+            throw new IllegalArgumentException("Total users cannot be negative");
+        }
+        if (percentiles == null || distribution == null) {
+            throw new IllegalArgumentException("Percentiles and distribution cannot be null");
+        }
+    }
+}
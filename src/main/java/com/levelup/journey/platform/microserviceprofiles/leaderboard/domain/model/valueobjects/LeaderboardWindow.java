@@ -0,0 +1,53 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Leaderboard Window Value Object
+ * Rolling time windows for which a separate ranking is maintained
+ */
+public enum LeaderboardWindow {
+    WEEKLY(7),
+    MONTHLY(30);
+
+    private final int days;
+
+    LeaderboardWindow(int days) {
+        this.days = days;
+    }
+
+    /**
+     * Number of days covered by the window, including today
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Resolve a window from its path name (case-insensitive)
+     *
+     * @param name The window name, e.g. "weekly"
+     * @return The matching window
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static LeaderboardWindow fromName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Leaderboard window cannot be null or empty");
+        }
+        for (LeaderboardWindow window : values()) {
+            if (window.name().equalsIgnoreCase(name)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unknown leaderboard window: " + name);
+    }
+
+    /**
+     * Longest window, which bounds how many days of history must be kept
+     */
+    public static int maxDays() {
+        int max = 0;
+        for (LeaderboardWindow window : values()) {
+            max = Math.max(max, window.days);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,143 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Points Distribution Value Object
+ * Counts of users per fixed-width points bucket, plus the exact sum of their points.
+ *
+ * Bucket boundaries only depend on the bucket width, so distributions built
+ * by different replicas (or over different user sets) merge by adding counts.
+ * Quantiles read from a distribution are accurate to one bucket width.
+ */
+public record PointsDistribution(Integer bucketWidth, long[] counts, Long pointsSum) {
+    public PointsDistribution {
+        if (bucketWidth == null || bucketWidth < 1) {
+            throw new IllegalArgumentException("Bucket width must be at least 1");
+        }
+        if (counts == null) {
+            throw new IllegalArgumentException("Counts cannot be null");
+        }
+        if (pointsSum == null || pointsSum < 0) {
+            throw new IllegalArgumentException("Points sum cannot be negative");
+        }
+        counts = counts.clone();
+    }
+
+    /**
+     * Number of users in the distribution
+     *
+     * @return Total count
+     */
+    public long total() {
+        long total = 0L;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Average points per user
+     *
+     * @return Mean points, 0 for an empty distribution
+     */
+    public double mean() {
+        long total = total();
+        return total == 0L ? 0.0 : pointsSum / (double) total;
+    }
+
+    /**
+     * Estimate the points value at a quantile, interpolating inside the bucket
+     *
+     * @param quantile Quantile in [0, 1], e.g. 0.9 for p90
+     * @return Estimated points, 0 for an empty distribution
+     */
+    public int quantile(double quantile) {
+        if (quantile < 0.0 || quantile > 1.0) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        long total = total();
+        if (total == 0L) {
+            return 0;
+        }
+        // 1-based rank from the lowest points value
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            long count = counts[bucket];
+            if (count > 0 && seen + count >= rank) {
+                double fraction = count == 1 ? 0.5 : (rank - seen - 1) / (double) (count - 1);
+                return bucket * bucketWidth + (int) Math.round(fraction * (bucketWidth - 1));
+            }
+            seen += count;
+        }
+        return (counts.length - 1) * bucketWidth + bucketWidth - 1;
+    }
+
+    /**
+     * Combine with a distribution built elsewhere
+     *
+     * @param other Distribution with the same bucket width
+     * @return The merged distribution
+     */
+    public PointsDistribution merge(PointsDistribution other) {
+        if (!bucketWidth.equals(other.bucketWidth())) {
+            throw new IllegalArgumentException("Cannot merge distributions with different bucket widths");
+        }
+        var merged = Arrays.copyOf(counts, Math.max(counts.length, other.counts().length));
+        var otherCounts = other.counts();
+        for (int i = 0; i < otherCounts.length; i++) {
+            merged[i] += otherCounts[i];
+        }
+        return new PointsDistribution(bucketWidth, merged, pointsSum + other.pointsSum());
+    }
+
+    /**
+     * Group the buckets into wider bins, skipping empty ones
+     * Bins start at multiples of the bin width, so bins of different replicas line up
+     *
+     * @param binWidth Requested bin width, rounded up to a multiple of the bucket width
+     * @return Non-empty bins in ascending points order
+     */
+    public List<PointsDistributionBin> bins(int binWidth) {
+        int bucketsPerBin = Math.max(1, (binWidth + bucketWidth - 1) / bucketWidth);
+        var bins = new ArrayList<PointsDistributionBin>();
+        for (int from = 0; from < counts.length; from += bucketsPerBin) {
+            long count = 0L;
+            for (int bucket = from; bucket < Math.min(from + bucketsPerBin, counts.length); bucket++) {
+                count += counts[bucket];
+            }
+            if (count > 0) {
+                int fromPoints = from * bucketWidth;
+                bins.add(new PointsDistributionBin(fromPoints, fromPoints + bucketsPerBin * bucketWidth - 1, count));
+            }
+        }
+        return bins;
+    }
+
+    @Override
+    public long[] counts() {
+        return counts.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PointsDistribution that
+                && bucketWidth.equals(that.bucketWidth)
+                && pointsSum.equals(that.pointsSum)
+                && Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * bucketWidth.hashCode() + pointsSum.hashCode()) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "PointsDistribution[bucketWidth=" + bucketWidth + ", users=" + total() + ", pointsSum=" + pointsSum + "]";
+    }
+}
@@ -0,0 +1,16 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Points Distribution Bin Value Object
+ * Number of users whose points fall in [fromPoints, toPoints]
+ */
+public record PointsDistributionBin(Integer fromPoints, Integer toPoints, Long count) {
+    public PointsDistributionBin {
+        if (fromPoints == null || toPoints == null || fromPoints < 0 || toPoints < fromPoints) {
+            throw new IllegalArgumentException("Bin bounds must satisfy 0 <= fromPoints <= toPoints");
+        }
+        if (count == null || count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects.KeysetCursorCodec;
+
+/**
+ * Windowed Leaderboard Cursor Value Object
+ * Keyset position (points DESC, user ID ASC) of the last entry returned by a windowed leaderboard page.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+public record WindowedLeaderboardCursor(Integer points, String userId) {
+
+    public WindowedLeaderboardCursor {
+        if (points == null) {
+            throw new IllegalArgumentException("Cursor points cannot be null");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("Cursor user ID cannot be null or empty");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque continuation token
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        return KeysetCursorCodec.encode(points, userId);
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static WindowedLeaderboardCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 2, values -> new WindowedLeaderboardCursor(
+                Integer.valueOf(values[0]),
+                values[1]));
+    }
+}
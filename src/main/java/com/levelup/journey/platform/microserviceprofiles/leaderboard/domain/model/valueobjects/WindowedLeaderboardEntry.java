@@ -0,0 +1,23 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+/**
+ * Windowed Leaderboard Entry Value Object
+ * A user's points and position within a time-windowed leaderboard
+ */
+public record WindowedLeaderboardEntry(String userId, Integer points, Integer position) {
+    public WindowedLeaderboardEntry {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+        if (position == null || position < 1) {
+            throw new IllegalArgumentException("Position must be a positive number");
+        }
+    }
+
+    /**
+     * Keyset cursor pointing right after this entry
+     */
+    public WindowedLeaderboardCursor toCursor() {
+        return new WindowedLeaderboardCursor(points, userId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * Windowed Leaderboard Page Value Object
+ * A page of a time-windowed leaderboard with the number of ranked users
+ */
+public record WindowedLeaderboardPage(List<WindowedLeaderboardEntry> entries, Integer totalUsers) {
+    public WindowedLeaderboardPage {
+        entries = entries == null ? List.of() : List.copyOf(entries);
+        totalUsers = totalUsers == null ? 0 : totalUsers;
+    }
+}
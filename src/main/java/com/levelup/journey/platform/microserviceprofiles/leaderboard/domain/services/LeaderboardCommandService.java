@@ -1,8 +1,14 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services;
 
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.ApplyReplicatedLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildLeaderboardRankIndexCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RebuildTimeWindowedLeaderboardsCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecalculateLeaderboardPositionsCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordWindowedScoreCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntriesCommand;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCycleCommand;
 
 import java.util.Optional;
 
@@ -21,6 +27,15 @@ public interface LeaderboardCommandService {
      */
     Optional<LeaderboardEntry> handle(UpdateLeaderboardEntryCommand command);
 
+    /**
+     * Handle Update Leaderboard Entries Command
+     * Applies a batch of coalesced entry updates in a single transaction
+     *
+     * @param command The {@link UpdateLeaderboardEntriesCommand}
+     * @return Number of entries updated
+     */
+    Integer handle(UpdateLeaderboardEntriesCommand command);
+
     /**
      * Handle Recalculate Leaderboard Positions Command
      * Recalculates all leaderboard positions based on current points
@@ -29,4 +44,46 @@ public interface LeaderboardCommandService {
      * @return Number of entries updated
      */
     Integer handle(RecalculateLeaderboardPositionsCommand command);
+
+    /**
+     * Handle Rebuild Leaderboard Rank Index Command
+     * Reloads the in-memory rank index from the persisted leaderboard entries
+     *
+     * @param command The {@link RebuildLeaderboardRankIndexCommand}
+     * @return Number of entries loaded into the index
+     */
+    Integer handle(RebuildLeaderboardRankIndexCommand command);
+
+    /**
+     * Handle Record Windowed Score Command
+     * Adds earned points to the weekly and monthly leaderboards
+     *
+     * @param command The {@link RecordWindowedScoreCommand}
+     */
+    void handle(RecordWindowedScoreCommand command);
+
+    /**
+     * Handle Rebuild Time Windowed Leaderboards Command
+     * Reloads the weekly and monthly leaderboards from the score history
+     *
+     * @param command The {@link RebuildTimeWindowedLeaderboardsCommand}
+     * @return Number of daily buckets loaded
+     */
+    Integer handle(RebuildTimeWindowedLeaderboardsCommand command);
+
+    /**
+     * Handle Update Leaderboard Entry Cycle Command
+     * Moves a user between the per-cycle leaderboards
+     *
+     * @param command The {@link UpdateLeaderboardEntryCycleCommand}
+     */
+    void handle(UpdateLeaderboardEntryCycleCommand command);
+
+    /**
+     * Handle Apply Replicated Leaderboard Entry Command
+     * Applies a change written by another instance to the local rank structures, if it is newer
+     *
+     * @param command The {@link ApplyReplicatedLeaderboardEntryCommand}
+     */
+    void handle(ApplyReplicatedLeaderboardEntryCommand command);
 }
@@ -0,0 +1,19 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecordLeaderboardPositionSnapshotCommand;
+
+/**
+ * Leaderboard Position History Command Service
+ * Handles commands related to the daily position history
+ */
+public interface LeaderboardPositionHistoryCommandService {
+
+    /**
+     * Handle Record Leaderboard Position Snapshot Command
+     * Appends the day's standing of each user to the history row of the current month
+     *
+     * @param command The {@link RecordLeaderboardPositionSnapshotCommand}
+     * @return Number of samples appended
+     */
+    Integer handle(RecordLeaderboardPositionSnapshotCommand command);
+}
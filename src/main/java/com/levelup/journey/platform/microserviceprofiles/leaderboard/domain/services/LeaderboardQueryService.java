@@ -1,9 +1,22 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services;
 
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetApproximateUserPositionQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetCycleLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardAroundUserQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPageQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPositionHistoryQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardStatsQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardTotalUsersQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500PageQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500Query;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetUserPositionQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetWindowedLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardPage;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionSample;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStats;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardPage;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +36,15 @@ public interface LeaderboardQueryService {
      */
     List<LeaderboardEntry> handle(GetLeaderboardQuery query);
 
+    /**
+     * Handle Get Leaderboard Page Query
+     * Retrieves the leaderboard entries following a keyset cursor
+     *
+     * @param query The {@link GetLeaderboardPageQuery}
+     * @return List of {@link LeaderboardEntry}
+     */
+    List<LeaderboardEntry> handle(GetLeaderboardPageQuery query);
+
     /**
      * Handle Get User Position Query
      * Retrieves a user's leaderboard entry including position
@@ -32,6 +54,25 @@ public interface LeaderboardQueryService {
      */
     Optional<LeaderboardEntry> handle(GetUserPositionQuery query);
 
+    /**
+     * Handle Get Approximate User Position Query
+     * Resolves a user's position without a database round-trip:
+     * exact inside the TOP 500, estimated from the points histogram beyond it
+     *
+     * @param query The {@link GetApproximateUserPositionQuery}
+     * @return Position, or 0 if the user is not ranked
+     */
+    Integer handle(GetApproximateUserPositionQuery query);
+
+    /**
+     * Handle Get Leaderboard Around User Query
+     * Retrieves the entries surrounding a user's position
+     *
+     * @param query The {@link GetLeaderboardAroundUserQuery}
+     * @return List of {@link LeaderboardEntry} in ranking order, empty if the user is not ranked
+     */
+    List<LeaderboardEntry> handle(GetLeaderboardAroundUserQuery query);
+
     /**
      * Handle Get Top 500 Query
      * Retrieves the top 500 leaderboard entries
@@ -40,4 +81,59 @@ public interface LeaderboardQueryService {
      * @return List of top 500 {@link LeaderboardEntry}
      */
     List<LeaderboardEntry> handle(GetTop500Query query);
+
+    /**
+     * Handle Get Top 500 Page Query
+     * Retrieves the top 500 entries following a keyset cursor
+     *
+     * @param query The {@link GetTop500PageQuery}
+     * @return List of {@link LeaderboardEntry} within the top 500
+     */
+    List<LeaderboardEntry> handle(GetTop500PageQuery query);
+
+    /**
+     * Handle Get Windowed Leaderboard Query
+     * Retrieves a page of the weekly or monthly leaderboard
+     *
+     * @param query The {@link GetWindowedLeaderboardQuery}
+     * @return The {@link WindowedLeaderboardPage}
+     */
+    WindowedLeaderboardPage handle(GetWindowedLeaderboardQuery query);
+
+    /**
+     * Handle Get Cycle Leaderboard Query
+     * Retrieves a page of the leaderboard of one student cycle
+     *
+     * @param query The {@link GetCycleLeaderboardQuery}
+     * @return The {@link CycleLeaderboardPage}
+     * @throws IllegalArgumentException if the cycle does not exist
+     */
+    CycleLeaderboardPage handle(GetCycleLeaderboardQuery query);
+
+    /**
+     * Handle Get Leaderboard Position History Query
+     * Retrieves a user's daily positions from the compact monthly history rows
+     *
+     * @param query The {@link GetLeaderboardPositionHistoryQuery}
+     * @return List of {@link LeaderboardPositionSample} in day order, empty if no history was recorded
+     */
+    List<LeaderboardPositionSample> handle(GetLeaderboardPositionHistoryQuery query);
+
+    /**
+     * Handle Get Leaderboard Stats Query
+     * Summarizes the points of every ranked user from the in-memory structures
+     *
+     * @param query The {@link GetLeaderboardStatsQuery}
+     * @return The {@link LeaderboardStats}
+     */
+    LeaderboardStats handle(GetLeaderboardStatsQuery query);
+
+    /**
+     * Handle Get Leaderboard Total Users Query
+     * Counts the ranked users from the rank index, without a COUNT(*) over the table
+     *
+     * @param query The {@link GetLeaderboardTotalUsersQuery}
+     * @return Number of ranked users
+     */
+    Long handle(GetLeaderboardTotalUsersQuery query);
 }
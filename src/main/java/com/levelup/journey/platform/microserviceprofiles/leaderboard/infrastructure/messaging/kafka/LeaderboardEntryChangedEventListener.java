@@ -0,0 +1,82 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.ApplyReplicatedLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Leaderboard Entry Changed Event Listener
+ * Applies leaderboard changes written by other instances to the local rank structures
+ *
+ * Every instance is assigned all partitions manually, without a consumer group,
+ * so each one sees every change and nothing is left behind on the broker when it
+ * stops. Consumption starts at the time this listener was created, which precedes
+ * the startup load from the database: changes committed while the load runs are
+ * replayed once it completes, and the points versions discard the ones it already read.
+ */
+@Component
+public class LeaderboardEntryChangedEventListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardEntryChangedEventListener.class);
+    private final LeaderboardCommandService leaderboardCommandService;
+    private final LeaderboardEntryChangedKafkaPublisher leaderboardEntryChangedKafkaPublisher;
+    private final ObjectMapper objectMapper;
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    public LeaderboardEntryChangedEventListener(
+            LeaderboardCommandService leaderboardCommandService,
+            LeaderboardEntryChangedKafkaPublisher leaderboardEntryChangedKafkaPublisher,
+            ObjectMapper objectMapper) {
+        this.leaderboardCommandService = leaderboardCommandService;
+        this.leaderboardEntryChangedKafkaPublisher = leaderboardEntryChangedKafkaPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Start every assigned partition at the first change published after this listener was created
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToTimestamp(assignments.keySet(), startedAtMillis);
+    }
+
+    @KafkaListener(
+            topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                    topic = "${app.kafka.topics.leaderboard-changes}",
+                    partitions = LeaderboardKafkaTopicConfig.LEADERBOARD_CHANGES_PARTITIONS),
+            containerFactory = "leaderboardChangesKafkaListenerContainerFactory",
+            autoStartup = "${app.kafka.enabled:true}"
+    )
+    public void handleLeaderboardEntryChanged(String message) {
+        try {
+            var eventData = objectMapper.readTree(message);
+
+            // Changes written by this instance are already applied
+            if (leaderboardEntryChangedKafkaPublisher.getInstanceId().equals(eventData.path("sourceInstanceId").asText())) {
+                return;
+            }
+
+            var command = new ApplyReplicatedLeaderboardEntryCommand(
+                    eventData.get("userId").asText(),
+                    eventData.get("points").asInt(),
+                    eventData.get("createdAtMillis").asLong(),
+                    eventData.get("version").asLong(),
+                    // Changes published before the delta was carried leave the windowed rankings untouched
+                    eventData.path("pointsDelta").asInt(0),
+                    eventData.path("earnedAtMillis").asLong(System.currentTimeMillis())
+            );
+            leaderboardCommandService.handle(command);
+        } catch (Exception e) {
+            // A lost change only delays the replica until the user's next update
+            logger.error("❌ Error applying replicated leaderboard change: {}", e.getMessage(), e);
+        }
+    }
+}
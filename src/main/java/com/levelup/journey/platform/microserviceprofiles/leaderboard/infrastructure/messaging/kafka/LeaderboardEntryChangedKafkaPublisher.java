@@ -0,0 +1,62 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardEntryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Publishes LeaderboardEntryChangedEvent instances to the compacted leaderboard-changes topic.
+ * Each instance tags its own changes so it can skip them when they come back.
+ */
+@Service
+@Slf4j
+public class LeaderboardEntryChangedKafkaPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${app.kafka.topics.leaderboard-changes}")
+    private String leaderboardChangesTopic;
+
+    @Value("${app.kafka.enabled}")
+    private boolean kafkaEnabled;
+
+    public LeaderboardEntryChangedKafkaPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Identifier of this instance, carried by every change it publishes
+     *
+     * @return Instance identifier
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void publish(String userId, Integer points, Long createdAtMillis, Long version,
+                        Integer pointsDelta, Long earnedAtMillis) {
+        if (!kafkaEnabled) {
+            log.debug("Kafka disabled. Skipping LeaderboardEntryChangedEvent for userId: {}", userId);
+            return;
+        }
+
+        var event = new LeaderboardEntryChangedEvent(
+                userId, points, createdAtMillis, version, pointsDelta, earnedAtMillis, instanceId);
+        try {
+            kafkaTemplate.send(leaderboardChangesTopic, userId, event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("❌ Failed to publish LeaderboardEntryChangedEvent - userId: {}, version: {}",
+                                    userId, version, ex);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("❌ Error publishing LeaderboardEntryChangedEvent - userId: {}, version: {}", userId, version, e);
+        }
+    }
+}
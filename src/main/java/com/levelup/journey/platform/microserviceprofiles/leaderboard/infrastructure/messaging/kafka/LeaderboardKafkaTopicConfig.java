@@ -0,0 +1,47 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Leaderboard Kafka Topic Configuration
+ * Declares the topics the leaderboard publishes to
+ */
+@Configuration
+public class LeaderboardKafkaTopicConfig {
+
+    /**
+     * Partitions of the leaderboard-changes topic, assigned manually to every instance
+     */
+    public static final String LEADERBOARD_CHANGES_PARTITIONS = "0-2";
+    private static final int LEADERBOARD_CHANGES_PARTITION_COUNT = 3;
+
+    /**
+     * Define leaderboard-changes topic
+     * Compaction keeps only the latest change per user, so the topic never grows past one record per ranked user
+     */
+    @Bean
+    public NewTopic leaderboardChangesTopic(@Value("${app.kafka.topics.leaderboard-changes}") String topicName) {
+        return TopicBuilder.name(topicName)
+                .partitions(LEADERBOARD_CHANGES_PARTITION_COUNT)
+                .replicas(1)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT)
+                .build();
+    }
+
+    /**
+     * Define leaderboard-position-changes topic
+     * A single partition keeps position batches in leaderboard version order
+     */
+    @Bean
+    public NewTopic leaderboardPositionChangesTopic(@Value("${app.kafka.topics.leaderboard-position-changes}") String topicName) {
+        return TopicBuilder.name(topicName)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardPositionsChangedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Publishes LeaderboardPositionsChangedEvent instances to the leaderboard-position-changes topic.
+ * Every record uses the same key, so consumers receive batches in leaderboard version order.
+ */
+@Service
+@Slf4j
+public class LeaderboardPositionsChangedKafkaPublisher {
+
+    private static final String MESSAGE_KEY = "global";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${app.kafka.topics.leaderboard-position-changes}")
+    private String leaderboardPositionChangesTopic;
+
+    @Value("${app.kafka.enabled}")
+    private boolean kafkaEnabled;
+
+    @Value("${app.leaderboard.position-events.max-changes-per-record:1000}")
+    private int maxChangesPerRecord;
+
+    public LeaderboardPositionsChangedKafkaPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Publish the position changes of one write, split into records of bounded size
+     * An incomplete batch always produces at least one record, even without changes,
+     * so consumers learn that they have to re-read the positions.
+     *
+     * @param leaderboardVersion Version of the leaderboard after the write
+     * @param changes Position changes, at most one per user
+     * @param complete Whether every shifted user is included
+     */
+    public void publish(long leaderboardVersion, List<LeaderboardPositionDelta> changes, boolean complete) {
+        if (!kafkaEnabled) {
+            log.debug("Kafka disabled. Skipping {} leaderboard position changes", changes.size());
+            return;
+        }
+        if (changes.isEmpty() && complete) {
+            return;
+        }
+
+        try {
+            int from = 0;
+            do {
+                var chunk = changes.subList(from, Math.min(changes.size(), from + maxChangesPerRecord));
+                var event = new LeaderboardPositionsChangedEvent(leaderboardVersion, chunk, complete);
+                kafkaTemplate.send(leaderboardPositionChangesTopic, MESSAGE_KEY, event)
+                        .whenComplete((result, ex) -> {
+                            if (ex != null) {
+                                log.error("❌ Failed to publish LeaderboardPositionsChangedEvent - version: {}, changes: {}",
+                                        leaderboardVersion, chunk.size(), ex);
+                            }
+                        });
+                from += maxChangesPerRecord;
+            } while (from < changes.size());
+            log.info("📤 Published {} leaderboard position changes (version {})", changes.size(), leaderboardVersion);
+        } catch (Exception e) {
+            log.error("❌ Error publishing leaderboard position changes - version: {}", leaderboardVersion, e);
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.mode
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +38,33 @@ public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEnt
      */
     boolean existsByUserId(LeaderboardUserId userId);
 
+    /**
+     * Find leaderboard entries for a set of user IDs
+     *
+     * @param userIds User ID string values
+     * @return List of matching entries (unordered)
+     */
+    List<LeaderboardEntry> findByUserIdUserIdIn(Collection<String> userIds);
+
+    /**
+     * Get the ranking key of every entry without materializing entities
+     * Used to load the in-memory rank index
+     *
+     * @return List of Object arrays containing [userId, totalPoints, createdAt, pointsVersion]
+     */
+    @Query("SELECT le.userId.userId, le.totalPoints.points, le.createdAt, le.pointsVersion FROM LeaderboardEntry le")
+    List<Object[]> findAllRankingKeys();
+
+    /**
+     * Get the ranking key of every entry updated at or after a given time
+     * Used to catch the rank index up after a warm restart from the mapped store
+     *
+     * @param updatedAt Lower bound (inclusive) of the last modification time
+     * @return List of Object arrays containing [userId, totalPoints, createdAt, pointsVersion]
+     */
+    @Query("SELECT le.userId.userId, le.totalPoints.points, le.createdAt, le.pointsVersion FROM LeaderboardEntry le WHERE le.updatedAt >= :updatedAt")
+    List<Object[]> findRankingKeysUpdatedSince(@Param("updatedAt") Date updatedAt);
+
     /**
      * Find all entries ordered by total points descending (for ranking)
      *
@@ -45,22 +75,68 @@ public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEnt
 
     /**
      * Find top N entries ordered by total points descending with pagination
+     * Ties are broken by user_id with the "C" collation, like the rank index
      *
      * @param pageable Pagination parameters
      * @return List of top entries
      */
-    @Query("SELECT le FROM LeaderboardEntry le ORDER BY le.totalPoints.points DESC, le.createdAt ASC")
+    @Query(value = """
+        SELECT * FROM leaderboard_entries le
+        ORDER BY le.total_points DESC, le.created_at ASC, le.user_id COLLATE "C" ASC
+        """, nativeQuery = true)
     List<LeaderboardEntry> findTopEntriesByPoints(Pageable pageable);
 
+    /**
+     * Find the entries that follow a keyset position, in leaderboard order
+     * Seeks directly on the (total_points DESC, created_at ASC, user_id ASC) index,
+     * so a deep page costs the same as the first one.
+     * user_id is compared with the "C" collation so pages follow the rank index order.
+     *
+     * @param points Total points of the last entry already returned
+     * @param createdAt Creation time of the last entry already returned
+     * @param userId User ID of the last entry already returned
+     * @param pageable Page size (page number must be 0)
+     * @return List of following entries
+     */
+    @Query(value = """
+        SELECT * FROM leaderboard_entries le
+        WHERE le.total_points < :points
+        OR (le.total_points = :points AND le.created_at > :createdAt)
+        OR (le.total_points = :points AND le.created_at = :createdAt AND le.user_id COLLATE "C" > :userId)
+        ORDER BY le.total_points DESC, le.created_at ASC, le.user_id COLLATE "C" ASC
+        """, nativeQuery = true)
+    List<LeaderboardEntry> findEntriesAfter(@Param("points") Integer points,
+                                            @Param("createdAt") Date createdAt,
+                                            @Param("userId") String userId,
+                                            Pageable pageable);
+
     /**
      * Find top 500 entries
      *
      * @param pageable Pagination with limit 500
      * @return List of top 500 entries
      */
-    @Query("SELECT le FROM LeaderboardEntry le ORDER BY le.totalPoints.points DESC, le.createdAt ASC")
+    @Query(value = """
+        SELECT * FROM leaderboard_entries le
+        ORDER BY le.total_points DESC, le.created_at ASC, le.user_id COLLATE "C" ASC
+        """, nativeQuery = true)
     List<LeaderboardEntry> findTop500(Pageable pageable);
 
+    /**
+     * Find the entries within a range of persisted positions
+     *
+     * @param fromPosition First position (inclusive)
+     * @param toPosition Last position (inclusive)
+     * @return Entries ordered by position
+     */
+    @Query("""
+        SELECT le FROM LeaderboardEntry le
+        WHERE le.position.position BETWEEN :fromPosition AND :toPosition
+        ORDER BY le.position.position ASC
+        """)
+    List<LeaderboardEntry> findByPositionRange(@Param("fromPosition") Integer fromPosition,
+                                               @Param("toPosition") Integer toPosition);
+
     /**
      * Count entries with points higher than given value
      * Used for efficient position calculation
@@ -107,4 +183,88 @@ public interface LeaderboardEntryRepository extends JpaRepository<LeaderboardEnt
      */
     @Query("SELECT COUNT(le) FROM LeaderboardEntry le")
     Long countTotalEntries();
+
+    /**
+     * Serialize position writers until the current transaction ends
+     * Incremental shifts are computed from the positions seen by the writer, so two
+     * concurrent shifts under READ COMMITTED would leave duplicated or missing positions.
+     * Reads are not blocked.
+     *
+     * @return Always 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('leaderboard_entries.leaderboard_position'))", nativeQuery = true)
+    Integer lockPositions();
+
+    /**
+     * Find the persisted position of the entry ranked right ahead of a ranking key
+     * Seeks backwards on the ranking index, so it costs one index probe.
+     * user_id is compared with the "C" collation, like the rank index.
+     *
+     * @param points Total points of the ranking key
+     * @param createdAt Creation time of the ranking key
+     * @param userId User ID of the ranking key, excluded from the result
+     * @return Position of the entry ahead, empty if the key ranks first
+     */
+    @Query(value = """
+        SELECT le.leaderboard_position FROM leaderboard_entries le
+        WHERE le.user_id <> :userId
+        AND (le.total_points > :points
+            OR (le.total_points = :points AND le.created_at < :createdAt)
+            OR (le.total_points = :points AND le.created_at = :createdAt AND le.user_id COLLATE "C" < :userId))
+        ORDER BY le.total_points ASC, le.created_at DESC, le.user_id COLLATE "C" DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    Optional<Integer> findPositionOfEntryAhead(@Param("points") Integer points,
+                                               @Param("createdAt") Date createdAt,
+                                               @Param("userId") String userId);
+
+    /**
+     * Recalculate every leaderboard position in a single set-based statement
+     *
+     * Positions are assigned with ROW_NUMBER() over the same ordering used by the
+     * in-memory rank index (points DESC, created_at ASC, user_id ASC) and applied
+     * with one bulk UPDATE. Only rows whose position actually changes are written.
+     * user_id is compared with the "C" collation so ties sort exactly like Java strings.
+     *
+     * @return Number of entries whose position changed
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE leaderboard_entries le
+        SET leaderboard_position = ranked.new_position,
+            updated_at = CURRENT_TIMESTAMP
+        FROM (
+            SELECT id,
+                   ROW_NUMBER() OVER (
+                       ORDER BY total_points DESC, created_at ASC, user_id COLLATE "C" ASC
+                   ) AS new_position
+            FROM leaderboard_entries
+        ) ranked
+        WHERE le.id = ranked.id
+          AND le.leaderboard_position <> ranked.new_position
+        """, nativeQuery = true)
+    int recalculateAllPositions();
+
+    /**
+     * Shift the position of every entry within a bounded position range
+     * Used for incremental maintenance when a single user moves from one slot to another
+     *
+     * @param fromPosition First position of the range (inclusive)
+     * @param toPosition Last position of the range (inclusive)
+     * @param delta Position offset to apply (+1 or -1)
+     * @param excludedUserId The user that moved, whose row is written separately
+     * @return Number of entries shifted
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE LeaderboardEntry le
+        SET le.position.position = le.position.position + :delta,
+            le.updatedAt = CURRENT_TIMESTAMP
+        WHERE le.position.position BETWEEN :fromPosition AND :toPosition
+        AND le.userId.userId <> :excludedUserId
+        """)
+    int shiftPositions(@Param("fromPosition") Integer fromPosition,
+                       @Param("toPosition") Integer toPosition,
+                       @Param("delta") Integer delta,
+                       @Param("excludedUserId") String excludedUserId);
 }
@@ -0,0 +1,51 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardPositionHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leaderboard Position History Repository
+ * JPA repository for LeaderboardPositionHistory aggregate persistence
+ */
+@Repository
+public interface LeaderboardPositionHistoryRepository extends JpaRepository<LeaderboardPositionHistory, UUID> {
+
+    /**
+     * Find the monthly history rows of a set of users
+     * Used by the daily snapshot to append to the current month
+     *
+     * @param monthStart First day of the month
+     * @param userIds User ID string values
+     * @return List of matching rows (unordered)
+     */
+    @Query("SELECT h FROM LeaderboardPositionHistory h WHERE h.monthStart = :monthStart AND h.userId.userId IN :userIds")
+    List<LeaderboardPositionHistory> findByMonthStartAndUserIds(@Param("monthStart") LocalDate monthStart,
+                                                                @Param("userIds") Collection<String> userIds);
+
+    /**
+     * Find the monthly history rows of a user within a range of months
+     * Served by one range scan of the (user_id, month_start) unique index
+     *
+     * @param userId User identifier
+     * @param fromMonth First day of the first month
+     * @param toMonth First day of the last month
+     * @return List of rows ordered by month
+     */
+    @Query("""
+        SELECT h FROM LeaderboardPositionHistory h
+        WHERE h.userId.userId = :userId
+          AND h.monthStart BETWEEN :fromMonth AND :toMonth
+        ORDER BY h.monthStart ASC
+        """)
+    List<LeaderboardPositionHistory> findByUserIdAndMonthRange(@Param("userId") String userId,
+                                                               @Param("fromMonth") LocalDate fromMonth,
+                                                               @Param("toMonth") LocalDate toMonth);
+}
@@ -0,0 +1,202 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Cycle Leaderboards
+ * In-memory leaderboards partitioned by student cycle.
+ *
+ * Every cycle has its own order-statistic tree using the global tie-breaking
+ * rules, so rank-of-user and range queries inside a cycle cost O(log n),
+ * the same as on the global {@link LeaderboardRankIndex}. Entries follow the
+ * global index on every points change, and move between partitions when the
+ * profile changes its cycle.
+ *
+ * Positions are 1-based. Users without a cycle are not ranked in any partition.
+ */
+@Component
+public class CycleLeaderboards {
+
+    private final Map<String, OrderStatisticTree<RankedEntry>> treesByCycle = new HashMap<>();
+    private final Map<String, String> cyclesByUserId = new HashMap<>();
+    private final Map<String, RankedEntry> entriesByUserId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Replace the content of every partition
+     *
+     * @param cycles Map of userId to cycle name, including users without leaderboard entry
+     * @param entries All leaderboard entries
+     * @return Number of entries placed in a partition
+     */
+    public int load(Map<String, String> cycles, Collection<RankedEntry> entries) {
+        lock.writeLock().lock();
+        try {
+            treesByCycle.clear();
+            cyclesByUserId.clear();
+            entriesByUserId.clear();
+            cyclesByUserId.putAll(cycles);
+            for (RankedEntry entry : entries) {
+                place(entry);
+            }
+            return entriesByUserId.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace the entry of a user in the partition of its cycle
+     *
+     * @param entry The new entry state
+     * @return true if the user belongs to a cycle and was ranked
+     */
+    public boolean upsert(RankedEntry entry) {
+        lock.writeLock().lock();
+        try {
+            return place(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move a user to another cycle
+     *
+     * @param userId User identifier
+     * @param cycle The new cycle name, null to drop the user from every partition
+     * @param currentEntry Supplies the user's current global entry; read while the partitions are locked
+     *                     so a concurrent points update cannot be overwritten with a stale one
+     */
+    public void assignCycle(String userId, String cycle, Supplier<Optional<RankedEntry>> currentEntry) {
+        lock.writeLock().lock();
+        try {
+            unplace(userId);
+            if (cycle == null) {
+                cyclesByUserId.remove(userId);
+                return;
+            }
+            cyclesByUserId.put(userId, cycle);
+            currentEntry.get().ifPresent(this::place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a user's entry from its partition, keeping its cycle
+     *
+     * @param userId User identifier
+     */
+    public void remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            unplace(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the 1-based position of a user inside a cycle
+     *
+     * @param cycle Cycle name
+     * @param userId User identifier
+     * @return Position, or 0 if the user is not ranked in that cycle
+     */
+    public int rankOf(String cycle, String userId) {
+        lock.readLock().lock();
+        try {
+            var entry = entriesByUserId.get(userId);
+            if (entry == null || !cycle.equals(cyclesByUserId.get(userId))) {
+                return 0;
+            }
+            return treesByCycle.get(cycle).countLessThan(entry) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get entries of a cycle in ranking order
+     *
+     * @param cycle Cycle name
+     * @param offset Number of entries to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries at cycle positions offset + 1 .. offset + limit
+     */
+    public List<RankedEntry> range(String cycle, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            var tree = treesByCycle.get(cycle);
+            return tree == null ? List.of() : tree.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of entries of a cycle ordered before or equal to a key
+     * Used to resume a page right after a keyset cursor
+     *
+     * @param cycle Cycle name
+     * @param key The ranking key of the last entry already returned
+     * @return 0-based index of the first entry after the key
+     */
+    public int indexAfter(String cycle, RankedEntry key) {
+        lock.readLock().lock();
+        try {
+            var tree = treesByCycle.get(cycle);
+            if (tree == null) {
+                return 0;
+            }
+            return tree.countLessThan(key) + (tree.contains(key) ? 1 : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of ranked users in a cycle
+     *
+     * @param cycle Cycle name
+     * @return Partition size
+     */
+    public int size(String cycle) {
+        lock.readLock().lock();
+        try {
+            var tree = treesByCycle.get(cycle);
+            return tree == null ? 0 : tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean place(RankedEntry entry) {
+        var cycle = cyclesByUserId.get(entry.userId());
+        if (cycle == null) {
+            return false;
+        }
+        unplace(entry.userId());
+        entriesByUserId.put(entry.userId(), entry);
+        treesByCycle.computeIfAbsent(cycle, key -> new OrderStatisticTree<>()).add(entry);
+        return true;
+    }
+
+    private void unplace(String userId) {
+        var previous = entriesByUserId.remove(userId);
+        if (previous != null) {
+            // Callers unplace before changing the cycle, so it still names the entry's partition
+            treesByCycle.get(cyclesByUserId.get(userId)).remove(previous);
+        }
+    }
+}
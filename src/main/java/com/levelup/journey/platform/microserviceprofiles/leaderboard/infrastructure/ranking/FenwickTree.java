@@ -0,0 +1,120 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Fenwick Tree
+ * Binary indexed tree of counts supporting point updates and prefix sums in O(log n).
+ *
+ * Indexes are 0-based; the tree grows automatically when an index beyond
+ * the current capacity is updated.
+ *
+ * This class is NOT thread-safe; callers are expected to guard it.
+ */
+public class FenwickTree {
+
+    private long[] tree;
+    private long total;
+
+    public FenwickTree(int capacity) {
+        this.tree = new long[Math.max(1, capacity) + 1];
+    }
+
+    /**
+     * Number of indexes the tree currently covers
+     *
+     * @return Capacity
+     */
+    public int capacity() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Sum of every count
+     *
+     * @return Total count
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Remove every count
+     */
+    public void clear() {
+        Arrays.fill(tree, 0L);
+        total = 0L;
+    }
+
+    /**
+     * Add a delta to the count at an index
+     *
+     * @param index 0-based index
+     * @param delta Value to add (may be negative)
+     */
+    public void add(int index, long delta) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index cannot be negative");
+        }
+        if (index >= capacity()) {
+            grow(index + 1);
+        }
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    /**
+     * Sum of the counts at indexes 0..index (inclusive)
+     *
+     * @param index 0-based index
+     * @return Prefix sum, 0 for a negative index
+     */
+    public long prefixSum(int index) {
+        if (index < 0) {
+            return 0L;
+        }
+        long sum = 0L;
+        for (int i = Math.min(index + 1, capacity()); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Count at a single index
+     *
+     * @param index 0-based index
+     * @return Count at the index
+     */
+    public long countAt(int index) {
+        return prefixSum(index) - prefixSum(index - 1);
+    }
+
+    /**
+     * Copy the count at every index
+     *
+     * @return Counts indexed like the tree, up to the current capacity
+     */
+    public long[] counts() {
+        var counts = new long[capacity()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = countAt(i);
+        }
+        return counts;
+    }
+
+    private void grow(int minCapacity) {
+        var counts = counts();
+
+        int newCapacity = Math.max(minCapacity, capacity() * 2);
+        tree = new long[newCapacity + 1];
+        total = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0L) {
+                add(i, counts[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Leaderboard Rank Index
+ * In-memory order-statistic index over all leaderboard entries.
+ *
+ * Answers rank-of-user, user-at-rank and range queries in O(log n) without
+ * touching the database. It is loaded from the LeaderboardEntryRepository
+ * once and then maintained incrementally on every leaderboard update.
+ *
+ * Positions are 1-based, matching LeaderboardPosition.
+ *
+ * The index also remembers the points version of every entry, so changes
+ * replicated from other instances are only applied when they are newer.
+ *
+ * Local writes are indexed before their transaction commits. Until it does, the
+ * last committed state of the user is kept aside, so checkpoints only ever
+ * contain committed points.
+ */
+@Component
+public class LeaderboardRankIndex {
+
+    private final OrderStatisticTree<RankedEntry> tree = new OrderStatisticTree<>();
+    private final Map<String, RankedEntry> entriesByUserId = new HashMap<>();
+    private final Map<String, Long> versionsByUserId = new HashMap<>();
+    private final Map<String, PendingWrite> pendingWritesByUserId = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+    private volatile long version = 0L;
+
+    /**
+     * Check whether the index has been loaded from the database
+     *
+     * @return true if the index is ready to serve queries
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Version of the index content, increased by every change
+     *
+     * @return Current version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Replace the whole index content
+     *
+     * @param entries All leaderboard entries
+     * @return Number of entries loaded
+     */
+    public int load(Iterable<RankedEntry> entries) {
+        return load(entries, Map.of());
+    }
+
+    /**
+     * Replace the whole index content, remembering the points version of the loaded entries
+     * so replicated changes older than the loaded state are discarded
+     *
+     * @param entries All leaderboard entries
+     * @param versions Points version by user ID; users without one accept any replicated change
+     * @return Number of entries loaded
+     */
+    public int load(Iterable<RankedEntry> entries, Map<String, Long> versions) {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            entriesByUserId.clear();
+            versionsByUserId.clear();
+            pendingWritesByUserId.clear();
+            for (RankedEntry entry : entries) {
+                var previous = entriesByUserId.put(entry.userId(), entry);
+                if (previous != null) {
+                    tree.remove(previous);
+                }
+                tree.add(entry);
+            }
+            versionsByUserId.putAll(versions);
+            loaded = true;
+            version++;
+            return tree.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace the entry for a user
+     *
+     * @param entry The new entry state
+     * @return The {@link RankMove} describing the previous and new positions
+     */
+    public RankMove upsert(RankedEntry entry) {
+        lock.writeLock().lock();
+        try {
+            return replace(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace the entry for a user written locally at a given points version
+     * The write stays pending until {@link #markCommitted} or {@link #revert} is called.
+     *
+     * @param entry The new entry state
+     * @param version Points version of the persisted entry
+     * @return The {@link RankMove} describing the previous and new positions
+     */
+    public RankMove upsert(RankedEntry entry, long version) {
+        lock.writeLock().lock();
+        try {
+            versionsByUserId.merge(entry.userId(), version, Math::max);
+            var pending = pendingWritesByUserId.get(entry.userId());
+            var committed = pending != null ? pending.committed() : entriesByUserId.get(entry.userId());
+            pendingWritesByUserId.put(entry.userId(), new PendingWrite(committed, version));
+            return replace(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace the entry for a user only if the version is newer than the indexed one
+     * Used for changes replicated from other instances, which may arrive late or twice
+     *
+     * @param entry The new entry state
+     * @param version Points version of the persisted entry
+     * @return The {@link RankMove}, empty if the indexed entry is already as recent
+     */
+    public Optional<RankMove> upsertIfNewer(RankedEntry entry, long version) {
+        lock.writeLock().lock();
+        try {
+            var indexedVersion = versionsByUserId.get(entry.userId());
+            if (indexedVersion != null && indexedVersion >= version) {
+                return Optional.empty();
+            }
+            versionsByUserId.put(entry.userId(), version);
+            // A newer committed change supersedes any local write still in flight
+            pendingWritesByUserId.remove(entry.userId());
+            return Optional.of(replace(entry));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mark a local write as committed
+     *
+     * @param written The entry state installed by the write
+     * @param writtenVersion Points version installed by the write
+     */
+    public void markCommitted(RankedEntry written, long writtenVersion) {
+        lock.writeLock().lock();
+        try {
+            var pending = pendingWritesByUserId.get(written.userId());
+            if (pending == null) {
+                return;
+            }
+            if (pending.version() > writtenVersion) {
+                // A newer local write is still in flight: this one becomes its committed state
+                pendingWritesByUserId.put(written.userId(), new PendingWrite(written, pending.version()));
+            } else {
+                pendingWritesByUserId.remove(written.userId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Undo a local write whose transaction rolled back
+     * The previous state is only restored while the written entry is still the indexed one,
+     * so a newer update committed in the meantime is never overwritten.
+     *
+     * @param written The entry state installed by the rolled back write
+     * @param writtenVersion Points version installed by the rolled back write
+     * @param previous The entry state before the write, null if the user was not indexed
+     * @param previousVersion Points version before the write
+     * @return true if the index was reverted, false if a newer change is already indexed
+     */
+    public boolean revert(RankedEntry written, long writtenVersion, RankedEntry previous, long previousVersion) {
+        lock.writeLock().lock();
+        try {
+            var indexedVersion = versionsByUserId.get(written.userId());
+            if (!written.equals(entriesByUserId.get(written.userId()))
+                    || indexedVersion == null || indexedVersion != writtenVersion) {
+                return false;
+            }
+            tree.remove(written);
+            pendingWritesByUserId.remove(written.userId());
+            if (previous == null) {
+                entriesByUserId.remove(written.userId());
+                versionsByUserId.remove(written.userId());
+            } else {
+                entriesByUserId.put(previous.userId(), previous);
+                versionsByUserId.put(previous.userId(), previousVersion);
+                tree.add(previous);
+            }
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a user from the index
+     *
+     * @param userId User identifier
+     * @return The removed entry, empty if the user was not indexed
+     */
+    public Optional<RankedEntry> remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            var previous = entriesByUserId.remove(userId);
+            if (previous != null) {
+                tree.remove(previous);
+            }
+            versionsByUserId.remove(userId);
+            pendingWritesByUserId.remove(userId);
+            version++;
+            return Optional.ofNullable(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the indexed entry of a user
+     *
+     * @param userId User identifier
+     * @return The entry, empty if the user is not indexed
+     */
+    public Optional<RankedEntry> get(String userId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entriesByUserId.get(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the 1-based position of a user
+     *
+     * @param userId User identifier
+     * @return Position, or 0 if the user is not indexed
+     */
+    public int rankOf(String userId) {
+        lock.readLock().lock();
+        try {
+            var entry = entriesByUserId.get(userId);
+            return entry == null ? 0 : tree.countLessThan(entry) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the user at a 1-based position
+     *
+     * @param position Leaderboard position
+     * @return The entry at that position, empty if out of range
+     */
+    public Optional<RankedEntry> entryAtRank(int position) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(tree.select(position - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get entries in ranking order
+     *
+     * @param offset Number of entries to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries at positions offset + 1 .. offset + limit
+     */
+    public List<RankedEntry> range(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return tree.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy every entry in ranking order
+     *
+     * @return All indexed entries
+     */
+    public List<RankedEntry> snapshot() {
+        lock.readLock().lock();
+        try {
+            return tree.range(0, tree.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy the committed state of every entry
+     * Users with a local write still in flight are returned with their last committed
+     * points, or left out if they were never committed.
+     *
+     * @return All committed entries
+     */
+    public List<RankedEntry> committedSnapshot() {
+        lock.readLock().lock();
+        try {
+            var entries = new ArrayList<RankedEntry>(tree.size());
+            for (RankedEntry entry : tree.range(0, tree.size())) {
+                var pending = pendingWritesByUserId.get(entry.userId());
+                if (pending == null) {
+                    entries.add(entry);
+                } else if (pending.committed() != null) {
+                    entries.add(pending.committed());
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed entries
+     *
+     * @return Index size
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RankMove replace(RankedEntry entry) {
+        var previous = entriesByUserId.put(entry.userId(), entry);
+        int oldPosition = 0;
+        if (previous != null) {
+            oldPosition = tree.countLessThan(previous) + 1;
+            tree.remove(previous);
+        }
+        tree.add(entry);
+        version++;
+        int newPosition = tree.countLessThan(entry) + 1;
+        return new RankMove(previous, oldPosition, newPosition, tree.size());
+    }
+
+    /**
+     * Local write not committed yet
+     *
+     * @param committed Last committed state of the user, null if never committed
+     * @param version Points version of the latest write in flight
+     */
+    private record PendingWrite(RankedEntry committed, long version) {
+    }
+}
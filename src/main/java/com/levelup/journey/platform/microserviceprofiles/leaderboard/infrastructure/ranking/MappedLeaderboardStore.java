@@ -0,0 +1,265 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mapped Leaderboard Store
+ * Off-heap, memory-mapped checkpoint of the {@link LeaderboardRankIndex}.
+ *
+ * Every ranked user is written as one record (unsigned short user ID length,
+ * UTF-8 user ID, int points, long created-at millis) after a small header
+ * holding the checkpoint time, the record count and the record bytes. User IDs
+ * are stored as-is, so any ID format round-trips. On restart the file is mapped
+ * and its records are decoded straight into the rank index, without an
+ * intermediate copy on the heap; only entries updated since the checkpoint have
+ * to be read back from the database.
+ *
+ * Scope: the store is a warm-restart image only. The rank index itself stays
+ * on the heap while the application runs; the store shortens startup but does
+ * not reduce the heap used by the ranking.
+ *
+ * Only committed points are checkpointed (see {@link LeaderboardRankIndex#committedSnapshot()}).
+ *
+ * Checkpoints are written to a temporary file and atomically moved over the
+ * previous one, so a crash never leaves a half-written store behind.
+ */
+@Component
+public class MappedLeaderboardStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedLeaderboardStore.class);
+    private static final int MAGIC = 0x4C425244; // "LBRD"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+    // Length prefix, points and created-at millis around each user ID
+    private static final int RECORD_OVERHEAD_BYTES = Short.BYTES + Integer.BYTES + Long.BYTES;
+    private static final int MAX_USER_ID_BYTES = 0xFFFF;
+    // Writes whose transaction was still open when the checkpoint was taken are re-read on catch-up
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * Content of a checkpoint
+     *
+     * @param entries Ranked entries in file order, decoded from the mapped file on every iteration
+     * @param size Number of entries in the checkpoint
+     * @param catchUpFrom Entries updated at or after this instant must be re-read from the database
+     */
+    public record Checkpoint(Iterable<RankedEntry> entries, int size, Instant catchUpFrom) {
+    }
+
+    private final LeaderboardRankIndex leaderboardRankIndex;
+    private final boolean enabled;
+    private final Path path;
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    public MappedLeaderboardStore(LeaderboardRankIndex leaderboardRankIndex,
+                                  @Value("${app.leaderboard.mapped-store.enabled:true}") boolean enabled,
+                                  @Value("${app.leaderboard.mapped-store.path:data/leaderboard-rank-index.bin}") String path) {
+        this.leaderboardRankIndex = leaderboardRankIndex;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+    }
+
+    /**
+     * Check whether warm restarts from the store are enabled
+     *
+     * @return true if the store is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Read the last checkpoint
+     *
+     * @return The checkpoint, empty if the store is disabled, missing or unreadable
+     */
+    public Optional<Checkpoint> open() {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                logger.warn("Ignoring leaderboard store {}: unknown format", path);
+                return Optional.empty();
+            }
+
+            var checkpointedAt = Instant.ofEpochMilli(buffer.getLong(8));
+            var recordCount = buffer.getInt(16);
+            var recordBytes = buffer.getLong(20);
+            if (buffer.capacity() != HEADER_BYTES + recordBytes || !hasRecords(buffer, recordCount)) {
+                logger.warn("Ignoring leaderboard store {}: expected {} records", path, recordCount);
+                return Optional.empty();
+            }
+
+            // The mapping stays valid after the channel is closed
+            Iterable<RankedEntry> entries = () -> new RecordIterator(buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN), recordCount);
+            return Optional.of(new Checkpoint(entries, recordCount, checkpointedAt.minus(CATCH_UP_OVERLAP)));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable leaderboard store {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the committed rank index content to the store
+     * Runs on the configured interval and once more on shutdown
+     *
+     * @return Number of entries written, 0 if nothing was written
+     */
+    @Scheduled(initialDelayString = "${app.leaderboard.mapped-store.checkpoint-interval-ms:60000}",
+            fixedDelayString = "${app.leaderboard.mapped-store.checkpoint-interval-ms:60000}")
+    public int checkpoint() {
+        if (!enabled || !leaderboardRankIndex.isLoaded() || !checkpointLock.tryLock()) {
+            return 0;
+        }
+
+        try {
+            // Taken before the snapshot, so every write missing from the snapshot is newer
+            var checkpointedAt = Instant.now();
+            var entries = leaderboardRankIndex.committedSnapshot();
+            write(entries, checkpointedAt);
+            logger.debug("Leaderboard store checkpointed with {} entries", entries.size());
+            return entries.size();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Error checkpointing leaderboard store {}: {}", path, e.getMessage(), e);
+            return 0;
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * Checkpoint before the application shuts down
+     */
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private void write(List<RankedEntry> entries, Instant checkpointedAt) throws IOException {
+        var parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        var temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long recordBytes = 0;
+                for (RankedEntry entry : entries) {
+                    recordBytes += RECORD_OVERHEAD_BYTES + utf8Length(entry.userId());
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + recordBytes);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(checkpointedAt.toEpochMilli())
+                        .putInt(entries.size()).putLong(recordBytes);
+                buffer.position(HEADER_BYTES);
+                for (RankedEntry entry : entries) {
+                    var userId = entry.userId().getBytes(StandardCharsets.UTF_8);
+                    buffer.putShort((short) userId.length)
+                            .put(userId)
+                            .putInt(entry.points())
+                            .putLong(entry.createdAtMillis());
+                }
+                buffer.force();
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Check that exactly the given number of records fills the buffer after the header
+     * Only the length prefixes are read, so a corrupt file is rejected before anything is loaded
+     */
+    private static boolean hasRecords(ByteBuffer buffer, int recordCount) {
+        long position = HEADER_BYTES;
+        for (int i = 0; i < recordCount; i++) {
+            if (position + RECORD_OVERHEAD_BYTES > buffer.capacity()) {
+                return false;
+            }
+            position += RECORD_OVERHEAD_BYTES + Short.toUnsignedInt(buffer.getShort((int) position));
+        }
+        return position == buffer.capacity();
+    }
+
+    /**
+     * Number of bytes of the UTF-8 encoding of a user ID, without encoding it
+     */
+    private static int utf8Length(String userId) {
+        int length = 0;
+        for (int i = 0; i < userId.length(); i++) {
+            char c = userId.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < userId.length() && Character.isLowSurrogate(userId.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        if (length > MAX_USER_ID_BYTES) {
+            throw new IllegalArgumentException("User ID longer than " + MAX_USER_ID_BYTES + " bytes: " + userId);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes one record per call, straight from the mapped buffer
+     */
+    private static final class RecordIterator implements Iterator<RankedEntry> {
+        private final ByteBuffer buffer;
+        private final int recordCount;
+        private int next = 0;
+
+        RecordIterator(ByteBuffer buffer, int recordCount) {
+            this.buffer = buffer.position(HEADER_BYTES);
+            this.recordCount = recordCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < recordCount;
+        }
+
+        @Override
+        public RankedEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            next++;
+            var userId = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(userId);
+            var points = buffer.getInt();
+            var createdAtMillis = buffer.getLong();
+            return new RankedEntry(new String(userId, StandardCharsets.UTF_8), points, createdAtMillis);
+        }
+    }
+}
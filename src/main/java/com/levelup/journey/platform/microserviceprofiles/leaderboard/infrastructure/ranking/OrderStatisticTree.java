@@ -0,0 +1,253 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Order Statistic Tree
+ * Randomized balanced binary search tree (treap) augmented with subtree sizes.
+ *
+ * Supports insertion, removal, rank-of-key, key-at-rank and range scans in
+ * O(log n) expected time (plus O(k) for ranges of k keys).
+ *
+ * This class is NOT thread-safe; callers are expected to guard it.
+ *
+ * @param <K> the key type, ordered by its natural ordering
+ */
+public class OrderStatisticTree<K extends Comparable<? super K>> {
+
+    private static final class Node<K> {
+        private final K key;
+        private final int priority;
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K> root;
+
+    /**
+     * Number of keys stored in the tree
+     *
+     * @return Tree size
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Remove every key from the tree
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Check whether the tree contains the given key
+     *
+     * @param key The key to look up
+     * @return true if the key is present
+     */
+    public boolean contains(K key) {
+        var node = root;
+        while (node != null) {
+            int cmp = key.compareTo(node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Insert a key. Duplicate keys are ignored.
+     *
+     * @param key The key to insert
+     * @return true if the key was inserted
+     */
+    public boolean add(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        root = insert(root, new Node<>(key, random.nextInt()));
+        return true;
+    }
+
+    /**
+     * Remove a key
+     *
+     * @param key The key to remove
+     * @return true if the key was present and removed
+     */
+    public boolean remove(K key) {
+        int before = size(root);
+        root = delete(root, key);
+        return size(root) < before;
+    }
+
+    /**
+     * Count keys strictly lower than the given key.
+     * For a key present in the tree this is its 0-based index.
+     *
+     * @param key The key to rank
+     * @return Number of keys ordered before the key
+     */
+    public int countLessThan(K key) {
+        int count = 0;
+        var node = root;
+        while (node != null) {
+            if (key.compareTo(node.key) <= 0) {
+                node = node.left;
+            } else {
+                count += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the key at the given 0-based index
+     *
+     * @param index The 0-based index
+     * @return The key, or null if the index is out of bounds
+     */
+    public K select(int index) {
+        if (index < 0 || index >= size(root)) {
+            return null;
+        }
+        var node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get up to {@code count} keys in order starting at the 0-based {@code fromIndex}
+     *
+     * @param fromIndex The 0-based index of the first key
+     * @param count Maximum number of keys to return
+     * @return Keys in ascending order
+     */
+    public List<K> range(int fromIndex, int count) {
+        var result = new ArrayList<K>(Math.max(0, Math.min(count, size(root) - fromIndex)));
+        if (fromIndex < 0 || count <= 0) {
+            return result;
+        }
+        collect(root, fromIndex, count, result);
+        return result;
+    }
+
+    private void collect(Node<K> node, int skip, int limit, List<K> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (skip < leftSize) {
+            collect(node.left, skip, limit, out);
+        }
+        if (out.size() >= limit) {
+            return;
+        }
+        if (skip <= leftSize) {
+            out.add(node.key);
+        }
+        collect(node.right, Math.max(0, skip - leftSize - 1), limit, out);
+    }
+
+    private Node<K> insert(Node<K> node, Node<K> fresh) {
+        if (node == null) {
+            return fresh;
+        }
+        if (fresh.key.compareTo(node.key) < 0) {
+            node.left = insert(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> delete(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = key.compareTo(node.key);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, key);
+        } else {
+            node.right = delete(node.right, key);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private Node<K> rotateRight(Node<K> node) {
+        var pivot = node.left;
+        node.left = pivot.right;
+        update(node);
+        pivot.right = node;
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<K> rotateLeft(Node<K> node) {
+        var pivot = node.right;
+        node.right = pivot.left;
+        update(node);
+        pivot.left = node;
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<K> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private int size(Node<K> node) {
+        return node == null ? 0 : node.size;
+    }
+}
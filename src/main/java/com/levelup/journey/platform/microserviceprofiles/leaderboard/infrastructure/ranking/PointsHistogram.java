@@ -0,0 +1,181 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.PointsDistribution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Points Histogram
+ * Bucketed histogram of leaderboard points backed by a {@link FenwickTree}.
+ *
+ * Point values are compressed into fixed-width buckets
+ * (app.leaderboard.approximate-rank.bucket-width), so the structure stays a
+ * few kilobytes no matter how many users are ranked. It answers estimated
+ * position and "top X%" queries in O(log buckets); users sharing a bucket are
+ * assumed to be spread evenly across it.
+ *
+ * The bucket counts and the exact points sum can be exported as a mergeable
+ * {@link PointsDistribution} for the leaderboard statistics.
+ */
+@Component
+public class PointsHistogram {
+
+    private static final int INITIAL_BUCKETS = 1024;
+
+    private final FenwickTree tree = new FenwickTree(INITIAL_BUCKETS);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int bucketWidth;
+    private long pointsSum = 0L;
+    private volatile boolean loaded = false;
+
+    public PointsHistogram(@Value("${app.leaderboard.approximate-rank.bucket-width:10}") int bucketWidth) {
+        if (bucketWidth < 1) {
+            throw new IllegalArgumentException("Bucket width must be at least 1");
+        }
+        this.bucketWidth = bucketWidth;
+    }
+
+    /**
+     * Check whether the histogram has been loaded
+     *
+     * @return true if the histogram is ready to serve estimates
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replace the whole histogram content
+     *
+     * @param points Points of every ranked user
+     */
+    public void load(Collection<Integer> points) {
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            pointsSum = 0L;
+            for (Integer value : points) {
+                tree.add(bucketOf(value), 1);
+                pointsSum += Math.max(0, value);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move a user from one points value to another
+     *
+     * @param previousPoints Points before the update, null for a new user
+     * @param newPoints Points after the update, null for a removed user
+     */
+    public void move(Integer previousPoints, Integer newPoints) {
+        lock.writeLock().lock();
+        try {
+            if (previousPoints != null) {
+                tree.add(bucketOf(previousPoints), -1);
+                pointsSum -= Math.max(0, previousPoints);
+            }
+            if (newPoints != null) {
+                tree.add(bucketOf(newPoints), 1);
+                pointsSum += Math.max(0, newPoints);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Number of users in buckets strictly above the bucket of the given points
+     * These users are certainly ranked ahead of anyone with the given points.
+     *
+     * @param points Points value
+     * @return Count of users in higher buckets
+     */
+    public long countInHigherBuckets(int points) {
+        lock.readLock().lock();
+        try {
+            return tree.total() - tree.prefixSum(bucketOf(points));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate the 1-based position of a user with the given points
+     *
+     * @param points Points value
+     * @return Estimated position
+     */
+    public int estimatePosition(int points) {
+        lock.readLock().lock();
+        try {
+            int bucket = bucketOf(points);
+            long higher = tree.total() - tree.prefixSum(bucket);
+            long sameBucket = tree.countAt(bucket);
+
+            // Fraction of the own bucket holding higher point values
+            double aboveInBucket = (sameBucket - 1) * ((bucketWidth - 1) - Math.floorMod(points, bucketWidth)) / (double) bucketWidth;
+            return (int) Math.min(Integer.MAX_VALUE, higher + Math.max(0L, Math.round(aboveInBucket)) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimate which top percentage of the leaderboard a points value belongs to
+     *
+     * @param points Points value
+     * @return Percentage in (0, 100], or 100 when the leaderboard is empty
+     */
+    public double topPercent(int points) {
+        long total = size();
+        if (total == 0) {
+            return 100.0;
+        }
+        return Math.min(100.0, estimatePosition(points) * 100.0 / total);
+    }
+
+    /**
+     * Number of users in the histogram
+     *
+     * @return Total count
+     */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return tree.total();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Export the bucket counts
+     *
+     * @return The {@link PointsDistribution}, trimmed after the highest non-empty bucket
+     */
+    public PointsDistribution distribution() {
+        lock.readLock().lock();
+        try {
+            var counts = tree.counts();
+            int length = counts.length;
+            while (length > 0 && counts[length - 1] == 0L) {
+                length--;
+            }
+            return new PointsDistribution(bucketWidth, Arrays.copyOf(counts, length), pointsSum);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int bucketOf(int points) {
+        return Math.max(0, points) / bucketWidth;
+    }
+}
@@ -0,0 +1,35 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+/**
+ * Rank Move
+ * Result of applying a single entry change to the LeaderboardRankIndex
+ *
+ * @param previous The previous entry state, null if the user was not indexed
+ * @param oldPosition The previous 1-based position, 0 if the user was not indexed
+ * @param newPosition The new 1-based position
+ * @param size The number of indexed entries after the change
+ */
+public record RankMove(RankedEntry previous, int oldPosition, int newPosition, int size) {
+
+    /**
+     * Check if the user was newly added to the index
+     */
+    public boolean isNewEntry() {
+        return previous == null;
+    }
+
+    /**
+     * First position whose occupant may have changed.
+     * A new entry shifts everyone from its slot down to the end of the board.
+     */
+    public int affectedFrom() {
+        return isNewEntry() ? newPosition : Math.min(oldPosition, newPosition);
+    }
+
+    /**
+     * Last position whose occupant may have changed
+     */
+    public int affectedTo() {
+        return isNewEntry() ? size : Math.max(oldPosition, newPosition);
+    }
+}
@@ -0,0 +1,30 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+/**
+ * Ranked Entry
+ * Compact, immutable view of a leaderboard entry used as the in-memory ranking key.
+ *
+ * Natural ordering follows the leaderboard tie-breaking rules:
+ * higher points first, then earlier creation time, then user ID.
+ */
+public record RankedEntry(String userId, int points, long createdAtMillis) implements Comparable<RankedEntry> {
+
+    public RankedEntry {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID cannot be null or empty");
+        }
+    }
+
+    @Override
+    public int compareTo(RankedEntry other) {
+        int byPoints = Integer.compare(other.points, this.points);
+        if (byPoints != 0) {
+            return byPoints;
+        }
+        int byCreatedAt = Long.compare(this.createdAtMillis, other.createdAtMillis);
+        if (byCreatedAt != 0) {
+            return byCreatedAt;
+        }
+        return this.userId.compareTo(other.userId);
+    }
+}
@@ -0,0 +1,235 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardWindow;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Time Windowed Leaderboards
+ * In-memory rolling rankings (see {@link LeaderboardWindow}) built from daily point buckets.
+ *
+ * Points are accumulated per user in one bucket per UTC day. Every window keeps
+ * its own running totals and {@link OrderStatisticTree}; when a day leaves a
+ * window, only that day's bucket is subtracted from the window, so the score
+ * history is never re-summed. Each recorded score is therefore added and
+ * expired exactly once per window. Days roll over lazily on the next access.
+ *
+ * Ties are broken by user ID. Positions are 1-based.
+ */
+@Component
+public class TimeWindowedLeaderboards {
+
+    private static final class WindowRanking {
+        private final int days;
+        private final Map<String, Integer> totals = new HashMap<>();
+        private final OrderStatisticTree<RankedEntry> tree = new OrderStatisticTree<>();
+        private long firstDay;
+
+        private WindowRanking(int days, long today) {
+            this.days = days;
+            this.firstDay = today - days + 1;
+        }
+
+        private void add(String userId, int delta) {
+            var previous = totals.getOrDefault(userId, 0);
+            if (totals.containsKey(userId)) {
+                tree.remove(new RankedEntry(userId, previous, 0L));
+            }
+            var updated = previous + delta;
+            if (updated == 0) {
+                totals.remove(userId);
+            } else {
+                totals.put(userId, updated);
+                tree.add(new RankedEntry(userId, updated, 0L));
+            }
+        }
+
+        private void clear(long today) {
+            totals.clear();
+            tree.clear();
+            firstDay = today - days + 1;
+        }
+    }
+
+    private final Clock clock = Clock.systemUTC();
+    private final TreeMap<Long, Map<String, Integer>> dailyBuckets = new TreeMap<>();
+    private final EnumMap<LeaderboardWindow, WindowRanking> windows = new EnumMap<>(LeaderboardWindow.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+    private volatile long currentDay;
+
+    public TimeWindowedLeaderboards() {
+        this.currentDay = today();
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            windows.put(window, new WindowRanking(window.getDays(), currentDay));
+        }
+    }
+
+    /**
+     * Check whether the windows have been loaded from the score history
+     *
+     * @return true if the windows are ready to serve queries
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Replace the content of every window
+     *
+     * @param dailyPointsByUser Points per user per UTC day
+     * @return Number of daily buckets loaded
+     */
+    public int load(Map<String, Map<LocalDate, Integer>> dailyPointsByUser) {
+        lock.writeLock().lock();
+        try {
+            var today = today();
+            dailyBuckets.clear();
+            windows.values().forEach(window -> window.clear(today));
+            currentDay = today;
+
+            dailyPointsByUser.forEach((userId, dailyPoints) ->
+                    dailyPoints.forEach((day, points) -> addPoints(userId, points, day.toEpochDay(), today)));
+
+            loaded = true;
+            return dailyBuckets.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Record points earned by a user
+     *
+     * @param userId User identifier
+     * @param points Points earned
+     * @param earnedAt When the points were earned
+     */
+    public void record(String userId, int points, Instant earnedAt) {
+        lock.writeLock().lock();
+        try {
+            var today = today();
+            advanceTo(today);
+            addPoints(userId, points, Math.min(earnedAt.atOffset(ZoneOffset.UTC).toLocalDate().toEpochDay(), today), today);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get entries of a window in ranking order
+     *
+     * @param window The time window
+     * @param offset Number of entries to skip
+     * @param limit Maximum number of entries to return
+     * @return Entries at positions offset + 1 .. offset + limit
+     */
+    public List<RankedEntry> range(LeaderboardWindow window, int offset, int limit) {
+        rollOverIfNeeded();
+        lock.readLock().lock();
+        try {
+            return windows.get(window).tree.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of entries ranked strictly before the first entry that follows a key
+     * Used to resume a window from a keyset cursor.
+     *
+     * @param window The time window
+     * @param points Points of the last entry already returned
+     * @param userId User ID of the last entry already returned
+     * @return The 0-based index of the next entry
+     */
+    public int indexAfter(LeaderboardWindow window, int points, String userId) {
+        rollOverIfNeeded();
+        lock.readLock().lock();
+        try {
+            var tree = windows.get(window).tree;
+            var key = new RankedEntry(userId, points, 0L);
+            return tree.countLessThan(key) + (tree.contains(key) ? 1 : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of users ranked in a window
+     *
+     * @param window The time window
+     * @return Window size
+     */
+    public int size(LeaderboardWindow window) {
+        rollOverIfNeeded();
+        lock.readLock().lock();
+        try {
+            return windows.get(window).tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rollOverIfNeeded() {
+        var today = today();
+        if (currentDay == today) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            advanceTo(today);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Expire the days that left each window; caller must hold the write lock
+     */
+    private void advanceTo(long today) {
+        for (WindowRanking window : windows.values()) {
+            var newFirstDay = today - window.days + 1;
+            while (window.firstDay < newFirstDay) {
+                var expiring = dailyBuckets.get(window.firstDay);
+                if (expiring != null) {
+                    expiring.forEach((userId, points) -> window.add(userId, -points));
+                }
+                window.firstDay++;
+            }
+        }
+        // Drop buckets no window needs anymore
+        dailyBuckets.headMap(today - LeaderboardWindow.maxDays() + 1).clear();
+        currentDay = today;
+    }
+
+    /**
+     * Add points to a day bucket and every window covering that day; caller must hold the write lock
+     */
+    private void addPoints(String userId, int points, long day, long today) {
+        if (day < today - LeaderboardWindow.maxDays() + 1 || points == 0) {
+            return;
+        }
+        dailyBuckets.computeIfAbsent(day, ignored -> new HashMap<>()).merge(userId, points, Integer::sum);
+        for (WindowRanking window : windows.values()) {
+            if (day >= window.firstDay) {
+                window.add(userId, points);
+            }
+        }
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+}
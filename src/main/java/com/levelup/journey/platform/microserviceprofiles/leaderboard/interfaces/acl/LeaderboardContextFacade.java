@@ -16,6 +16,17 @@ public interface LeaderboardContextFacade {
      */
     Integer getUserPosition(String userId);
 
+    /**
+     * Get user's position in the leaderboard, optionally approximated
+     * In approximate mode the position is exact inside the TOP 500 and
+     * estimated from a points histogram beyond it, without a database round-trip.
+     *
+     * @param userId User identifier
+     * @param approximate true to allow an estimated position outside the TOP 500
+     * @return Leaderboard position, or 0 if user not found
+     */
+    Integer getUserPosition(String userId, boolean approximate);
+
     /**
      * Get top N users from leaderboard
      *
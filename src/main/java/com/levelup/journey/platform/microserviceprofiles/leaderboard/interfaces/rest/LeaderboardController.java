@@ -1,22 +1,50 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecalculateLeaderboardPositionsCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetCycleLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardAroundUserQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPageQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardPositionHistoryQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardTotalUsersQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500PageQuery;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500Query;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetUserPositionQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetWindowedLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardCursor;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardPage;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardCursor;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardWindow;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardCursor;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.cache.LeaderboardStatsCache;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.cache.Top500SnapshotCache;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardEntryResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardLiveFrameResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardPositionHistoryResource;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardResponse;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardStatsResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.stream.LeaderboardLiveFeed;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform.LeaderboardEntryResourceFromEntityAssembler;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform.LeaderboardPositionHistoryResourceFromSamplesAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -29,86 +57,280 @@ import java.util.List;
 @Tag(name = "Leaderboard", description = "Global leaderboard and rankings management")
 public class LeaderboardController {
 
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final LeaderboardCommandService leaderboardCommandService;
     private final LeaderboardQueryService leaderboardQueryService;
     private final LeaderboardEntryRepository leaderboardEntryRepository;
     private final LeaderboardEntryResourceFromEntityAssembler assembler;
+    private final Top500SnapshotCache top500SnapshotCache;
+    private final LeaderboardLiveFeed leaderboardLiveFeed;
+    private final LeaderboardStatsCache leaderboardStatsCache;
+    private final ObjectMapper objectMapper;
 
     public LeaderboardController(
             LeaderboardCommandService leaderboardCommandService,
             LeaderboardQueryService leaderboardQueryService,
             LeaderboardEntryRepository leaderboardEntryRepository,
-            LeaderboardEntryResourceFromEntityAssembler assembler) {
+            LeaderboardEntryResourceFromEntityAssembler assembler,
+            Top500SnapshotCache top500SnapshotCache,
+            LeaderboardLiveFeed leaderboardLiveFeed,
+            LeaderboardStatsCache leaderboardStatsCache,
+            ObjectMapper objectMapper) {
         this.leaderboardCommandService = leaderboardCommandService;
         this.leaderboardQueryService = leaderboardQueryService;
         this.leaderboardEntryRepository = leaderboardEntryRepository;
         this.assembler = assembler;
+        this.top500SnapshotCache = top500SnapshotCache;
+        this.leaderboardLiveFeed = leaderboardLiveFeed;
+        this.leaderboardStatsCache = leaderboardStatsCache;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Get global leaderboard with pagination
+     * Uses keyset pagination when a cursor is given; offset is kept for compatibility.
+     * The body stays a plain array; the total and the continuation token travel in headers.
      */
     @GetMapping
-    @Operation(summary = "Get leaderboard", description = "Retrieves paginated global leaderboard rankings")
+    @Operation(summary = "Get leaderboard", description = "Retrieves paginated global leaderboard rankings. The total number of users is returned in the " + TOTAL_COUNT_HEADER + " header; pass the " + NEXT_CURSOR_HEADER + " header value as cursor to get the following page")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or pagination parameters")
     })
     public ResponseEntity<List<LeaderboardEntryResource>> getLeaderboard(
             @Parameter(description = "Number of entries to return", example = "50")
             @RequestParam(defaultValue = "50") Integer limit,
-            @Parameter(description = "Number of entries to skip", example = "0")
-            @RequestParam(defaultValue = "0") Integer offset) {
+            @Parameter(description = "Number of entries to skip (ignored when cursor is provided)", example = "0")
+            @RequestParam(defaultValue = "0") Integer offset,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor) {
 
-        var query = new GetLeaderboardQuery(limit, offset);
-        var entries = leaderboardQueryService.handle(query);
+        List<LeaderboardEntry> entries;
+        try {
+            entries = cursor != null
+                    ? leaderboardQueryService.handle(new GetLeaderboardPageQuery(limit, LeaderboardCursor.decode(cursor)))
+                    : leaderboardQueryService.handle(new GetLeaderboardQuery(limit, offset));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        var resources = entries.stream()
-                .map(assembler::toResourceFromEntity)
-                .toList();
+        var resources = assembler.toResourcesFromEntities(entries);
 
-        return ResponseEntity.ok(resources);
+        var response = ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(leaderboardQueryService.handle(new GetLeaderboardTotalUsersQuery())));
+        if (entries.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, entries.get(entries.size() - 1).toCursor().encode());
+        }
+        return response.body(resources);
     }
 
     /**
      * Get TOP 500 leaderboard with pagination
+     * Pages are served from the precomputed {@link Top500SnapshotCache} with ETag support;
+     * uses keyset pagination when a cursor is given; offset is kept for compatibility
      */
     @GetMapping("/top500")
-    @Operation(summary = "Get TOP 500", description = "Retrieves paginated top 500 users in the leaderboard (exactly 20 users per page)")
+    @Operation(summary = "Get TOP 500", description = "Retrieves paginated top 500 users in the leaderboard (exactly 20 users per page). Pass the returned nextCursor to get the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "TOP 500 retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = LeaderboardResponse.class))),
+            @ApiResponse(responseCode = "304", description = "TOP 500 page not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or offset")
+    })
+    public ResponseEntity<byte[]> getTop500(
+            @Parameter(description = "Number of entries to skip (ignored when cursor is provided)", example = "0")
+            @RequestParam(defaultValue = "0") Integer offset,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "ETag of a previously received page")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws JsonProcessingException {
+
+        var snapshotPage = cursor != null
+                ? top500SnapshotCache.pageAfterCursor(cursor)
+                : top500SnapshotCache.pageAtOffset(offset);
+
+        if (snapshotPage.isPresent()) {
+            var page = snapshotPage.get();
+            // Weak comparison: the W/ prefix is ignored on both sides
+            var opaqueTag = page.eTag().substring(page.eTag().indexOf('"'));
+            if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(opaqueTag))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(page.eTag()).build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(page.eTag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(page.body());
+        }
+
+        // Not covered by the snapshot (unaligned offset, foreign cursor or snapshot not built yet)
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(loadTop500(offset, cursor)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Stream live TOP N updates with Server-Sent Events
+     * Replaces polling /top500: one "snapshot" event on connect, then one "diff" event per interval at most
+     */
+    @GetMapping(value = "/top500/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream live leaderboard", description = "Server-Sent Events feed of the leaderboard top positions: a snapshot event on connect, then diff events with the changed positions only. Slow clients are disconnected")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = LeaderboardLiveFrameResource.class)))
+    })
+    public SseEmitter streamTop500() {
+        return leaderboardLiveFeed.subscribe();
+    }
+
+    /**
+     * Get points percentiles and distribution
+     * Served from the precomputed {@link LeaderboardStatsCache}
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get leaderboard stats", description = "Retrieves the median, p75, p90, p95 and p99 points and the points distribution of the global leaderboard. Distribution bins are aligned to the bin width and can be summed across instances")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "TOP 500 retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "Stats retrieved successfully"),
+            @ApiResponse(responseCode = "503", description = "Stats not computed yet")
     })
-    public ResponseEntity<LeaderboardResponse> getTop500(
-            @Parameter(description = "Number of entries to skip", example = "0")
-            @RequestParam(defaultValue = "0") Integer offset) {
+    public ResponseEntity<LeaderboardStatsResource> getStats() {
+        var stats = leaderboardStatsCache.current();
+        if (stats == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(stats);
+    }
 
+    /**
+     * Read a TOP 500 page from the database
+     *
+     * @param offset Number of entries to skip (ignored when cursor is provided)
+     * @param cursor Continuation token, may be null
+     * @return The TOP 500 page
+     * @throws IllegalArgumentException if the offset or the cursor is invalid
+     */
+    private LeaderboardResponse loadTop500(Integer offset, String cursor) {
         // Fixed limit of 20 users per page
-        Integer limit = 20;
+        Integer limit = Top500SnapshotCache.PAGE_SIZE;
 
         // Get total users count
         long totalUsers = leaderboardEntryRepository.countTotalEntries();
 
-        // Calculate max offset for top 500 (cannot exceed 500)
-        long maxTop500Users = Math.min(totalUsers, 500L);
+        List<LeaderboardEntry> entries;
+        if (cursor != null) {
+            entries = leaderboardQueryService.handle(new GetTop500PageQuery(limit, LeaderboardCursor.decode(cursor)));
+        } else {
+            // Calculate max offset for top 500 (cannot exceed 500)
+            long maxTop500Users = Math.min(totalUsers, 500L);
 
-        // Validate offset is not negative
-        if (offset < 0) {
-            return ResponseEntity.badRequest().build();
+            // Validate offset is not negative
+            if (offset < 0) {
+                throw new IllegalArgumentException("Offset must be non-negative");
+            }
+
+            // If offset is beyond top 500 limit, return empty list
+            if (offset >= maxTop500Users) {
+                return new LeaderboardResponse(java.util.Collections.emptyList(), totalUsers, null);
+            }
+
+            entries = leaderboardQueryService.handle(new GetTop500Query(limit, offset));
         }
 
-        // If offset is beyond top 500 limit, return empty list
-        if (offset >= maxTop500Users) {
-            var response = new LeaderboardResponse(java.util.Collections.emptyList(), totalUsers);
-            return ResponseEntity.ok(response);
+        var resources = assembler.toResourcesFromEntities(entries);
+
+        // No continuation once the page reaches the TOP 500 boundary
+        var last = entries.isEmpty() ? null : entries.get(entries.size() - 1);
+        var nextCursor = last != null && entries.size() == limit && last.getPosition() < 500
+                ? last.toCursor().encode()
+                : null;
+
+        return new LeaderboardResponse(resources, totalUsers, nextCursor);
+    }
+
+    /**
+     * Get a time-windowed leaderboard with pagination
+     * Same pagination model as the global leaderboard: cursor, with offset kept for compatibility
+     */
+    @GetMapping("/{window}")
+    @Operation(summary = "Get time-windowed leaderboard", description = "Retrieves the weekly or monthly leaderboard, ranked by points earned within the rolling window")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown window, invalid cursor or pagination parameters")
+    })
+    public ResponseEntity<LeaderboardResponse> getWindowedLeaderboard(
+            @Parameter(description = "Time window (weekly or monthly)", example = "weekly")
+            @PathVariable String window,
+            @Parameter(description = "Number of entries to return", example = "50")
+            @RequestParam(defaultValue = "50") Integer limit,
+            @Parameter(description = "Number of entries to skip (ignored when cursor is provided)", example = "0")
+            @RequestParam(defaultValue = "0") Integer offset,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor) {
+
+        GetWindowedLeaderboardQuery query;
+        try {
+            query = new GetWindowedLeaderboardQuery(
+                    LeaderboardWindow.fromName(window),
+                    limit,
+                    offset,
+                    cursor != null ? WindowedLeaderboardCursor.decode(cursor) : null
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
 
-        var query = new GetTop500Query(limit, offset);
-        var entries = leaderboardQueryService.handle(query);
+        var page = leaderboardQueryService.handle(query);
+        var entries = page.entries();
+        var resources = assembler.toResourcesFromWindowedEntries(entries);
+
+        var nextCursor = entries.size() == limit ? entries.get(entries.size() - 1).toCursor().encode() : null;
+        var response = new LeaderboardResponse(resources, page.totalUsers().longValue(), nextCursor);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the leaderboard of a student cycle with pagination
+     * Same pagination model as the global leaderboard: cursor, with offset kept for compatibility
+     */
+    @GetMapping("/cycle/{cycle}")
+    @Operation(summary = "Get student cycle leaderboard", description = "Retrieves the leaderboard of one student cycle; positions are relative to the cycle")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown cycle, invalid cursor or pagination parameters")
+    })
+    public ResponseEntity<LeaderboardResponse> getCycleLeaderboard(
+            @Parameter(description = "Student cycle (First, Second, Third or Other)", example = "First")
+            @PathVariable String cycle,
+            @Parameter(description = "Number of entries to return", example = "50")
+            @RequestParam(defaultValue = "50") Integer limit,
+            @Parameter(description = "Number of entries to skip (ignored when cursor is provided)", example = "0")
+            @RequestParam(defaultValue = "0") Integer offset,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor) {
+
+        CycleLeaderboardPage page;
+        try {
+            var query = new GetCycleLeaderboardQuery(
+                    cycle,
+                    limit,
+                    offset,
+                    cursor != null ? CycleLeaderboardCursor.decode(cursor) : null
+            );
+            page = leaderboardQueryService.handle(query);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        var resources = entries.stream()
-                .map(assembler::toResourceFromEntity)
-                .toList();
+        var entries = page.entries();
+        var resources = assembler.toResourcesFromCycleEntries(entries);
 
-        var response = new LeaderboardResponse(resources, totalUsers);
+        var nextCursor = entries.size() == limit ? entries.get(entries.size() - 1).toCursor().encode() : null;
+        var response = new LeaderboardResponse(resources, page.totalUsers().longValue(), nextCursor);
         return ResponseEntity.ok(response);
     }
 
@@ -136,6 +358,62 @@ public class LeaderboardController {
         return ResponseEntity.ok(resource);
     }
 
+    /**
+     * Get the leaderboard window around a user
+     */
+    @GetMapping("/user/{userId}/around")
+    @Operation(summary = "Get leaderboard around user", description = "Retrieves a user's leaderboard entry together with the entries right above and below it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard window retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid radius"),
+            @ApiResponse(responseCode = "404", description = "User not found in leaderboard")
+    })
+    public ResponseEntity<List<LeaderboardEntryResource>> getLeaderboardAroundUser(
+            @Parameter(description = "User identifier", example = "user123")
+            @PathVariable String userId,
+            @Parameter(description = "Number of entries to return above and below the user (0-50)", example = "5")
+            @RequestParam(defaultValue = "5") Integer radius) {
+
+        List<LeaderboardEntry> entries;
+        try {
+            entries = leaderboardQueryService.handle(new GetLeaderboardAroundUserQuery(userId, radius));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (entries.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(assembler.toResourcesFromEntities(entries));
+    }
+
+    /**
+     * Get the daily position history of a user
+     */
+    @GetMapping("/user/{userId}/history")
+    @Operation(summary = "Get user position history", description = "Retrieves a user's end-of-day leaderboard position and points for the last days (up to 365), oldest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Position history retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid number of days")
+    })
+    public ResponseEntity<LeaderboardPositionHistoryResource> getUserPositionHistory(
+            @Parameter(description = "User identifier", example = "user123")
+            @PathVariable String userId,
+            @Parameter(description = "Number of days to return (1-365)", example = "365")
+            @RequestParam(defaultValue = "365") Integer days) {
+
+        GetLeaderboardPositionHistoryQuery query;
+        try {
+            query = new GetLeaderboardPositionHistoryQuery(userId, days);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var samples = leaderboardQueryService.handle(query);
+        return ResponseEntity.ok(LeaderboardPositionHistoryResourceFromSamplesAssembler.toResourceFromSamples(userId, samples));
+    }
+
     /**
      * Recalculate all leaderboard positions (Admin operation)
      */
@@ -0,0 +1,80 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.cache;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardUpdatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardStatsQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardStatsResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform.LeaderboardStatsResourceFromStatsAssembler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Leaderboard Stats Cache
+ * Precomputed leaderboard statistics served straight from memory.
+ *
+ * The points histogram is kept current on every leaderboard update; this
+ * cache turns it into percentiles and distribution bins at most once per
+ * refresh interval, so /stats reads are a single volatile read.
+ */
+@Component
+public class LeaderboardStatsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardStatsCache.class);
+
+    private final LeaderboardQueryService leaderboardQueryService;
+    private final int binWidth;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile LeaderboardStatsResource stats;
+
+    public LeaderboardStatsCache(LeaderboardQueryService leaderboardQueryService,
+                                 @Value("${app.leaderboard.stats.bin-width:100}") int binWidth) {
+        this.leaderboardQueryService = leaderboardQueryService;
+        this.binWidth = Math.max(1, binWidth);
+    }
+
+    /**
+     * Get the latest statistics
+     *
+     * @return The {@link LeaderboardStatsResource}, null if none could be computed yet
+     */
+    public LeaderboardStatsResource current() {
+        if (stats == null) {
+            // First request before the scheduled build
+            refreshIfStale();
+        }
+        return stats;
+    }
+
+    /**
+     * Mark the statistics as stale once leaderboard writes are committed
+     *
+     * @param event The {@link LeaderboardUpdatedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(LeaderboardUpdatedEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * Recompute the statistics if leaderboard writes happened since the last build
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.stats.refresh-interval-ms:1000}")
+    public void refreshIfStale() {
+        if (stale.compareAndSet(true, false)) {
+            try {
+                stats = LeaderboardStatsResourceFromStatsAssembler.toResourceFromStats(
+                        leaderboardQueryService.handle(new GetLeaderboardStatsQuery()), binWidth);
+            } catch (Exception e) {
+                stale.set(true);
+                logger.error("Error computing leaderboard stats: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
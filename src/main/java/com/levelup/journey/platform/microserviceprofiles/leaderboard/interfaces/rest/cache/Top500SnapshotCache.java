@@ -0,0 +1,230 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardUpdatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetTop500Query;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardResponse;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform.LeaderboardEntryResourceFromEntityAssembler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Top 500 Snapshot Cache
+ * Precomputed, versioned TOP 500 pages served straight from memory.
+ *
+ * Every page of the /top500 endpoint is serialized once into a byte array
+ * together with its ETag. The snapshot is built when the application is ready
+ * and rebuilt in the background after leaderboard writes commit; requests never
+ * build it themselves and fall back to the database until the first build is done.
+ *
+ * Each page's ETag is a hash of that page's entries and continuation token, so
+ * a write only invalidates the pages it actually changed. The ETag is weak because
+ * the total user count in the body is not part of it.
+ */
+@Component
+public class Top500SnapshotCache {
+
+    public static final int PAGE_SIZE = 20;
+    private static final int TOP_500 = 500;
+    private static final Logger logger = LoggerFactory.getLogger(Top500SnapshotCache.class);
+
+    /**
+     * A serialized TOP 500 page
+     *
+     * @param body JSON body of the {@link LeaderboardResponse}
+     * @param eTag Weak ETag of the page
+     */
+    public record Page(byte[] body, String eTag) {
+    }
+
+    private record Snapshot(long version, List<byte[]> pages, List<String> eTags, Map<String, Integer> pageIndexByCursor) {
+    }
+
+    private final LeaderboardQueryService leaderboardQueryService;
+    private final LeaderboardEntryRepository leaderboardEntryRepository;
+    private final LeaderboardEntryResourceFromEntityAssembler assembler;
+    private final ObjectMapper objectMapper;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Snapshot snapshot;
+
+    public Top500SnapshotCache(LeaderboardQueryService leaderboardQueryService,
+                               LeaderboardEntryRepository leaderboardEntryRepository,
+                               LeaderboardEntryResourceFromEntityAssembler assembler,
+                               ObjectMapper objectMapper) {
+        this.leaderboardQueryService = leaderboardQueryService;
+        this.leaderboardEntryRepository = leaderboardEntryRepository;
+        this.assembler = assembler;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Get the page starting at the given offset
+     *
+     * @param offset Number of entries to skip, must be a multiple of {@link #PAGE_SIZE}
+     * @return The serialized page, empty if the offset is not page-aligned or no snapshot is available
+     */
+    public Optional<Page> pageAtOffset(int offset) {
+        if (offset < 0 || offset >= TOP_500 || offset % PAGE_SIZE != 0) {
+            return Optional.empty();
+        }
+        return page(offset / PAGE_SIZE);
+    }
+
+    /**
+     * Get the page that follows a continuation token issued by this snapshot
+     *
+     * @param cursor The continuation token
+     * @return The serialized page, empty if the token does not belong to the current snapshot
+     */
+    public Optional<Page> pageAfterCursor(String cursor) {
+        var current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        var pageIndex = current.pageIndexByCursor().get(cursor);
+        return pageIndex == null ? Optional.empty() : page(pageIndex);
+    }
+
+    /**
+     * Current snapshot version
+     *
+     * @return Version, 0 if no snapshot was built yet
+     */
+    public long getVersion() {
+        var current = snapshot;
+        return current == null ? 0L : current.version();
+    }
+
+    /**
+     * Mark the snapshot as stale once leaderboard writes are committed
+     *
+     * @param event The {@link LeaderboardUpdatedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(LeaderboardUpdatedEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * Build the first snapshot as soon as the application is ready
+     *
+     * @param event The application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        refreshIfStale();
+    }
+
+    /**
+     * Rebuild the snapshot if leaderboard writes happened since the last build
+     * Bursts of writes are folded into one rebuild per interval.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.top500-snapshot.refresh-interval-ms:1000}")
+    public void refreshIfStale() {
+        if (stale.compareAndSet(true, false)) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                stale.set(true);
+                logger.error("Error rebuilding TOP 500 snapshot: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private Optional<Page> page(int pageIndex) {
+        var current = snapshot;
+        if (current == null) {
+            // Not built yet: the caller reads the page from the database
+            return Optional.empty();
+        }
+        if (pageIndex >= current.pages().size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Page(current.pages().get(pageIndex), current.eTags().get(pageIndex)));
+    }
+
+    private synchronized void rebuild() throws JsonProcessingException {
+        var entries = leaderboardQueryService.handle(new GetTop500Query(TOP_500, 0));
+        long totalUsers = leaderboardEntryRepository.countTotalEntries();
+        var resources = assembler.toResourcesFromEntities(entries);
+
+        int pageCount = Math.max(1, (int) Math.ceil(resources.size() / (double) PAGE_SIZE));
+        var pages = new ArrayList<byte[]>(pageCount);
+        var eTags = new ArrayList<String>(pageCount);
+        var pageIndexByCursor = new HashMap<String, Integer>();
+
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            int from = pageIndex * PAGE_SIZE;
+            int to = Math.min(from + PAGE_SIZE, resources.size());
+
+            String nextCursor = null;
+            if (to - from == PAGE_SIZE && to < TOP_500) {
+                nextCursor = entries.get(to - 1).toCursor().encode();
+                pageIndexByCursor.put(nextCursor, pageIndex + 1);
+            }
+
+            var response = new LeaderboardResponse(resources.subList(from, to), totalUsers, nextCursor);
+            pages.add(objectMapper.writeValueAsBytes(response));
+            eTags.add(eTag(pageIndex, objectMapper.writeValueAsBytes(resources.subList(from, to)), nextCursor));
+        }
+
+        var previous = snapshot;
+        if (previous != null && samePages(previous.pages(), pages)) {
+            return;
+        }
+
+        long version = previous == null ? 1L : previous.version() + 1;
+        snapshot = new Snapshot(version, List.copyOf(pages), List.copyOf(eTags), Map.copyOf(pageIndexByCursor));
+        logger.info("TOP 500 snapshot rebuilt: version {}, {} entries in {} pages", version, entries.size(), pageCount);
+    }
+
+    private boolean samePages(List<byte[]> current, List<byte[]> rebuilt) {
+        if (current.size() != rebuilt.size()) {
+            return false;
+        }
+        for (int i = 0; i < current.size(); i++) {
+            if (!Arrays.equals(current.get(i), rebuilt.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Weak ETag derived from the page content only
+     */
+    private String eTag(int pageIndex, byte[] entries, String nextCursor) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(entries);
+            if (nextCursor != null) {
+                digest.update(nextCursor.getBytes(StandardCharsets.UTF_8));
+            }
+            var hash = HexFormat.of().formatHex(digest.digest(), 0, 12);
+            return "W/\"top500-p" + pageIndex + "-" + hash + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
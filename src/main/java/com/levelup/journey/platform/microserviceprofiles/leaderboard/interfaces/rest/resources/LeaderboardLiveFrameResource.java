@@ -0,0 +1,24 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Leaderboard Live Frame Resource
+ * One frame of the live leaderboard feed: the full TOP N on subscription, then only the changed positions
+ */
+@Schema(description = "Live leaderboard frame with the positions that changed since the previous frame")
+public record LeaderboardLiveFrameResource(
+        @Schema(description = "Frame version, increased by one per frame", example = "42")
+        Long version,
+
+        @Schema(description = "Entries whose occupant or points changed, or every entry in a snapshot frame")
+        List<LeaderboardEntryResource> entries,
+
+        @Schema(description = "Number of ranked positions in the feed; positions above it were removed", example = "100")
+        Integer size,
+
+        @Schema(description = "Total number of users in the leaderboard", example = "1500")
+        Long totalUsers
+) {}
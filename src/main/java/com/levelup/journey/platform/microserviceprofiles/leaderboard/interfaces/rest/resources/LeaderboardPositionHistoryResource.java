@@ -0,0 +1,19 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Leaderboard Position History Resource
+ * DTO for a user's daily position series
+ */
+@Schema(description = "Daily leaderboard position series of a user, oldest day first")
+public record LeaderboardPositionHistoryResource(
+        @Schema(description = "User identifier", example = "user123")
+        String userId,
+
+        @Schema(description = "One sample per recorded day")
+        List<LeaderboardPositionSampleResource> samples
+) {
+}
@@ -0,0 +1,20 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Leaderboard Position Sample Resource
+ * DTO for one day of a user's position history
+ */
+@Schema(description = "A user's leaderboard position and points at the end of one day")
+public record LeaderboardPositionSampleResource(
+        @Schema(description = "Day (UTC), ISO-8601", example = "2025-03-14")
+        String date,
+
+        @Schema(description = "Leaderboard position", example = "42")
+        Integer position,
+
+        @Schema(description = "Total points", example = "5420")
+        Integer totalPoints
+) {
+}
@@ -6,13 +6,17 @@ import java.util.List;
 
 /**
  * Leaderboard Response
- * Wrapper for leaderboard entries with total user count
+ * Wrapper for leaderboard entries with total user count and continuation token
  */
-@Schema(description = "Leaderboard response with entries and total user count")
+@Schema(description = "Leaderboard response with entries, total user count and continuation token")
 public record LeaderboardResponse(
         @Schema(description = "List of leaderboard entries")
         List<LeaderboardEntryResource> entries,
 
         @Schema(description = "Total number of users in the leaderboard", example = "1500")
-        Long totalUsers
+        Long totalUsers,
+
+        @Schema(description = "Opaque token to request the next page, null when there are no more entries",
+                example = "NTQyMHwyMDI1LTAxLTAxVDAwOjAwOjAwWnw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+        String nextCursor
 ) {}
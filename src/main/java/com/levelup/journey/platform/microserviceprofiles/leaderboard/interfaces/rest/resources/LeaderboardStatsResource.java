@@ -0,0 +1,35 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leaderboard Stats Resource
+ * DTO for the points percentiles and distribution of the global leaderboard
+ */
+@Schema(description = "Points percentiles and distribution of the global leaderboard")
+public record LeaderboardStatsResource(
+        @Schema(description = "Number of ranked users", example = "104233")
+        Long totalUsers,
+
+        @Schema(description = "Lowest points", example = "0")
+        Integer minPoints,
+
+        @Schema(description = "Highest points", example = "18250")
+        Integer maxPoints,
+
+        @Schema(description = "Average points", example = "1432.7")
+        Double meanPoints,
+
+        @Schema(description = "Points at each percentile, keyed p50, p75, p90, p95, p99", example = "{\"p50\": 980, \"p90\": 4210}")
+        Map<String, Integer> percentiles,
+
+        @Schema(description = "Width in points of every distribution bin; bins start at multiples of it, so distributions from several instances can be summed bin by bin", example = "100")
+        Integer binWidth,
+
+        @Schema(description = "Non-empty distribution bins in ascending points order")
+        List<PointsDistributionBinResource> distribution
+) {
+}
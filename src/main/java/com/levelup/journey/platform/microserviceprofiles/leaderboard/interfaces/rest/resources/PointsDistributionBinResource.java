@@ -0,0 +1,20 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Points Distribution Bin Resource
+ * DTO for one bin of the leaderboard points distribution
+ */
+@Schema(description = "Number of users whose points fall in the inclusive range")
+public record PointsDistributionBinResource(
+        @Schema(description = "Lowest points of the bin", example = "1000")
+        Integer fromPoints,
+
+        @Schema(description = "Highest points of the bin", example = "1099")
+        Integer toPoints,
+
+        @Schema(description = "Number of users in the bin", example = "312")
+        Long count
+) {
+}
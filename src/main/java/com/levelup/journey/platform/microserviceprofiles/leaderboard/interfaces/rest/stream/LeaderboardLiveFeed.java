@@ -0,0 +1,274 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardUpdatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.queries.GetLeaderboardQuery;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardQueryService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardEntryResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardLiveFrameResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform.LeaderboardEntryResourceFromEntityAssembler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Leaderboard Live Feed
+ * Pushes the TOP N of the leaderboard to Server-Sent Events subscribers.
+ *
+ * Leaderboard writes only mark the feed dirty; once per interval the TOP N is
+ * read and diffed against the previous frame, and the diff is serialized once
+ * and fanned out to every subscriber. Each subscriber has a small bounded queue
+ * drained on a virtual thread, so a client blocked on a slow socket never holds
+ * up the others; a client that cannot keep up fills its queue and is disconnected
+ * instead of being buffered without limit.
+ *
+ * Events: "snapshot" (full TOP N, sent on subscription) and "diff".
+ */
+@Component
+public class LeaderboardLiveFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardLiveFeed.class);
+
+    private record Frame(long version, List<LeaderboardEntryResource> entries, String snapshotJson) {
+    }
+
+    private final LeaderboardQueryService leaderboardQueryService;
+    private final LeaderboardEntryRepository leaderboardEntryRepository;
+    private final LeaderboardEntryResourceFromEntityAssembler assembler;
+    private final ObjectMapper objectMapper;
+    private final int topN;
+    private final int queueCapacity;
+    private final long timeoutMs;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Frame current;
+
+    public LeaderboardLiveFeed(LeaderboardQueryService leaderboardQueryService,
+                               LeaderboardEntryRepository leaderboardEntryRepository,
+                               LeaderboardEntryResourceFromEntityAssembler assembler,
+                               ObjectMapper objectMapper,
+                               @Value("${app.leaderboard.live-feed.top-n:100}") int topN,
+                               @Value("${app.leaderboard.live-feed.client-queue-capacity:8}") int queueCapacity,
+                               @Value("${app.leaderboard.live-feed.timeout-ms:1800000}") long timeoutMs) {
+        this.leaderboardQueryService = leaderboardQueryService;
+        this.leaderboardEntryRepository = leaderboardEntryRepository;
+        this.assembler = assembler;
+        this.objectMapper = objectMapper;
+        this.topN = topN;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Register a new subscriber and send it the current snapshot
+     *
+     * @return The emitter to return from the controller
+     */
+    public SseEmitter subscribe() {
+        var subscriber = new Subscriber(new SseEmitter(timeoutMs));
+        subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+        subscriber.emitter.onTimeout(() -> disconnect(subscriber));
+        subscriber.emitter.onError(error -> disconnect(subscriber));
+
+        // Under the rebuild lock: the subscriber either gets the snapshot the next diff is computed from,
+        // or is already registered when that diff is fanned out
+        synchronized (this) {
+            var frame = currentFrame();
+            subscribers.add(subscriber);
+            if (frame != null) {
+                subscriber.offer(event("snapshot", frame.version(), frame.snapshotJson()));
+            }
+        }
+        logger.debug("Live leaderboard subscriber added ({} connected)", subscribers.size());
+        return subscriber.emitter;
+    }
+
+    /**
+     * Number of connected subscribers
+     *
+     * @return Subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Mark the feed dirty once leaderboard writes are committed
+     *
+     * @param event The {@link LeaderboardUpdatedEvent}
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(LeaderboardUpdatedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * Compute at most one diff frame per interval and fan it out to every subscriber
+     * Nothing is read while nobody is subscribed.
+     */
+    @Scheduled(fixedDelayString = "${app.leaderboard.live-feed.interval-ms:1000}")
+    public void tick() {
+        if (subscribers.isEmpty() || !dirty.compareAndSet(true, false)) {
+            return;
+        }
+
+        try {
+            var previous = current;
+            var next = rebuild(previous);
+            if (next == previous) {
+                return;
+            }
+
+            var changed = diff(previous, next);
+            var frame = new LeaderboardLiveFrameResource(next.version(), changed, next.entries().size(), totalUsers());
+            var diffJson = objectMapper.writeValueAsString(frame);
+            // Built once; every subscriber sends the same encoded event
+            var event = event("diff", next.version(), diffJson);
+            synchronized (this) {
+                subscribers.forEach(subscriber -> subscriber.offer(event));
+            }
+        } catch (Exception e) {
+            dirty.set(true);
+            logger.error("Error building live leaderboard frame: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Close every subscriber and stop the sender pool on shutdown
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private Frame currentFrame() {
+        if (current == null) {
+            try {
+                rebuild(null);
+            } catch (Exception e) {
+                logger.error("Error building live leaderboard snapshot: {}", e.getMessage(), e);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Read the TOP N and replace the current frame if anything changed
+     *
+     * @return The new frame, or the given one if the TOP N did not change
+     */
+    private synchronized Frame rebuild(Frame previous) throws JsonProcessingException {
+        if (current != previous) {
+            // Another thread already rebuilt the frame
+            return current;
+        }
+
+        var entries = assembler.toResourcesFromEntities(
+                leaderboardQueryService.handle(new GetLeaderboardQuery(topN, 0)));
+        if (previous != null && previous.entries().equals(entries)) {
+            return previous;
+        }
+
+        long version = previous == null ? 1L : previous.version() + 1;
+        var snapshot = new LeaderboardLiveFrameResource(version, entries, entries.size(), totalUsers());
+        current = new Frame(version, List.copyOf(entries), objectMapper.writeValueAsString(snapshot));
+        return current;
+    }
+
+    private List<LeaderboardEntryResource> diff(Frame previous, Frame next) {
+        if (previous == null) {
+            return next.entries();
+        }
+        var changed = new ArrayList<LeaderboardEntryResource>();
+        for (int i = 0; i < next.entries().size(); i++) {
+            var entry = next.entries().get(i);
+            if (i >= previous.entries().size() || !Objects.equals(previous.entries().get(i), entry)) {
+                changed.add(entry);
+            }
+        }
+        return changed;
+    }
+
+    private Set<DataWithMediaType> event(String name, long version, String json) {
+        return SseEmitter.event()
+                .name(name)
+                .id(Long.toString(version))
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private long totalUsers() {
+        return leaderboardEntryRepository.countTotalEntries();
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    /**
+     * A connected client with its bounded queue of pending events
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> pending = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (!pending.offer(event)) {
+                logger.info("Dropping slow live leaderboard subscriber ({} events pending)", pending.size());
+                disconnect(this);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = pending.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                disconnect(this);
+            } finally {
+                draining.set(false);
+                // An event may have been queued after the last poll
+                if (!pending.isEmpty() && subscribers.contains(this) && draining.compareAndSet(false, true)) {
+                    senders.execute(this::drain);
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform;
 
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.CycleLeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.WindowedLeaderboardEntry;
 import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardEntryResource;
 import com.levelup.journey.platform.microserviceprofiles.profiles.interfaces.acl.ProfilesContextFacade;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Leaderboard Entry Resource From Entity Assembler
  * Transforms LeaderboardEntry entity to LeaderboardEntryResource
@@ -27,7 +31,72 @@ public class LeaderboardEntryResourceFromEntityAssembler {
     public LeaderboardEntryResource toResourceFromEntity(LeaderboardEntry entity) {
         // Get username via Profiles ACL facade
         var username = profilesContextFacade.getUsernameByUserId(entity.getUserId());
+        return toResource(entity, username);
+    }
+
+    /**
+     * Transform a page of LeaderboardEntry entities to LeaderboardEntryResources
+     * Usernames of the whole page are resolved with a single lookup
+     *
+     * @param entities The LeaderboardEntry entities
+     * @return LeaderboardEntryResources in the same order
+     */
+    public List<LeaderboardEntryResource> toResourcesFromEntities(List<LeaderboardEntry> entities) {
+        var usernames = profilesContextFacade.getUsernamesByUserIds(
+                entities.stream().map(LeaderboardEntry::getUserId).toList());
+
+        return entities.stream()
+                .map(entity -> toResource(entity, usernames.get(entity.getUserId())))
+                .toList();
+    }
+
+    /**
+     * Transform a page of time-windowed entries to LeaderboardEntryResources
+     * Windowed entries are not persisted, so the resource ID is null
+     *
+     * @param entries The WindowedLeaderboardEntry values
+     * @return LeaderboardEntryResources in the same order
+     */
+    public List<LeaderboardEntryResource> toResourcesFromWindowedEntries(List<WindowedLeaderboardEntry> entries) {
+        var usernames = profilesContextFacade.getUsernamesByUserIds(
+                entries.stream().map(WindowedLeaderboardEntry::userId).toList());
+
+        return entries.stream()
+                .map(entry -> new LeaderboardEntryResource(
+                        null,
+                        entry.userId(),
+                        usernames.get(entry.userId()),
+                        entry.points(),
+                        entry.position(),
+                        entry.position() <= 500
+                ))
+                .toList();
+    }
+
+    /**
+     * Transform a page of student cycle entries to LeaderboardEntryResources
+     * The position is the position within the cycle; the TOP 500 flag stays global
+     *
+     * @param entries The CycleLeaderboardEntry values
+     * @return LeaderboardEntryResources in the same order
+     */
+    public List<LeaderboardEntryResource> toResourcesFromCycleEntries(List<CycleLeaderboardEntry> entries) {
+        var usernames = profilesContextFacade.getUsernamesByUserIds(
+                entries.stream().map(CycleLeaderboardEntry::userId).toList());
+
+        return entries.stream()
+                .map(entry -> new LeaderboardEntryResource(
+                        null,
+                        entry.userId(),
+                        usernames.get(entry.userId()),
+                        entry.points(),
+                        entry.position(),
+                        entry.isTop500()
+                ))
+                .toList();
+    }
 
+    private LeaderboardEntryResource toResource(LeaderboardEntry entity, String username) {
         return new LeaderboardEntryResource(
                 entity.getId().toString(),
                 entity.getUserId(),
@@ -0,0 +1,24 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionSample;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardPositionHistoryResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardPositionSampleResource;
+
+import java.util.List;
+
+/**
+ * Leaderboard Position History Resource From Samples Assembler
+ * Transforms LeaderboardPositionSample values to LeaderboardPositionHistoryResource
+ */
+public class LeaderboardPositionHistoryResourceFromSamplesAssembler {
+    public static LeaderboardPositionHistoryResource toResourceFromSamples(String userId, List<LeaderboardPositionSample> samples) {
+        var resources = samples.stream()
+                .map(sample -> new LeaderboardPositionSampleResource(
+                        sample.date().toString(),
+                        sample.position(),
+                        sample.points()
+                ))
+                .toList();
+        return new LeaderboardPositionHistoryResource(userId, resources);
+    }
+}
@@ -0,0 +1,33 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.transform;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardStats;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.LeaderboardStatsResource;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.interfaces.rest.resources.PointsDistributionBinResource;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Leaderboard Stats Resource From Stats Assembler
+ * Transforms LeaderboardStats to LeaderboardStatsResource
+ */
+public class LeaderboardStatsResourceFromStatsAssembler {
+    public static LeaderboardStatsResource toResourceFromStats(LeaderboardStats stats, int binWidth) {
+        var percentiles = new LinkedHashMap<String, Integer>();
+        stats.percentiles().forEach((percentile, points) -> percentiles.put("p" + percentile, points));
+
+        var bins = stats.distribution().bins(binWidth);
+        var effectiveBinWidth = bins.isEmpty() ? binWidth : bins.get(0).toPoints() - bins.get(0).fromPoints() + 1;
+
+        return new LeaderboardStatsResource(
+                stats.totalUsers(),
+                stats.minPoints(),
+                stats.maxPoints(),
+                Math.round(stats.meanPoints() * 10.0) / 10.0,
+                percentiles,
+                effectiveBinWidth,
+                bins.stream()
+                        .map(bin -> new PointsDistributionBinResource(bin.fromPoints(), bin.toPoints(), bin.count()))
+                        .toList()
+        );
+    }
+}
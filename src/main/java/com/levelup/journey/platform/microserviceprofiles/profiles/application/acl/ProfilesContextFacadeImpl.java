@@ -2,12 +2,21 @@ package com.levelup.journey.platform.microserviceprofiles.profiles.application.a
 
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUserIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUsernameQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetStudentCyclesByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetUsernamesByUserIdsQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.StudentCycle;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.UserId;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.Username;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.services.ProfileQueryService;
 import com.levelup.journey.platform.microserviceprofiles.profiles.interfaces.acl.ProfilesContextFacade;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Profiles Context Facade Implementation
  * Implements ACL interface for accessing Profile information from other bounded contexts
@@ -28,6 +37,15 @@ public class ProfilesContextFacadeImpl implements ProfilesContextFacade {
         return profile.map(p -> p.getUsername()).orElse(null);
     }
 
+    @Override
+    public Map<String, String> getUsernamesByUserIds(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        var query = new GetUsernamesByUserIdsQuery(userIds);
+        return profileQueryService.handle(query);
+    }
+
     @Override
     public String getProfileIdByUserId(String userId) {
         var query = new GetProfileByUserIdQuery(new UserId(userId));
@@ -41,4 +59,24 @@ public class ProfilesContextFacadeImpl implements ProfilesContextFacade {
         var profile = profileQueryService.handle(query);
         return profile.map(p -> p.getUserId()).orElse(null);
     }
+
+    @Override
+    public List<String> getStudentCycles() {
+        return Arrays.stream(StudentCycle.values()).map(Enum::name).toList();
+    }
+
+    @Override
+    public String getStudentCycleByUserId(String userId) {
+        var query = new GetProfileByUserIdQuery(new UserId(userId));
+        var profile = profileQueryService.handle(query);
+        return profile.map(p -> p.getCycle()).map(Enum::name).orElse(null);
+    }
+
+    @Override
+    public Map<String, String> getStudentCyclesByUserId() {
+        var cycles = profileQueryService.handle(new GetStudentCyclesByUserIdQuery());
+        var cycleNames = new HashMap<String, String>(cycles.size() * 2);
+        cycles.forEach((userId, cycle) -> cycleNames.put(userId, cycle.name()));
+        return cycleNames;
+    }
 }
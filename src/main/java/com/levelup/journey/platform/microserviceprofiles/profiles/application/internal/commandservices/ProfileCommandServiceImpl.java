@@ -4,6 +4,7 @@ import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.a
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.CreateProfileFromUserCommand;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.UpdateProfileCommand;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events.ProfileCreatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events.ProfileCycleChangedEvent;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events.ProfileRegisteredEvent;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events.ProfileUpdatedEvent;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.UserId;
@@ -118,6 +119,8 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
             profile.updateUsername(command.username());
         }
 
+        var previousCycle = profile.getCycle();
+
         // Update profile fields
         profile.updateName(command.firstName(), command.lastName());
         profile.updateProfileUrl(command.profileUrl());
@@ -127,6 +130,17 @@ public class ProfileCommandServiceImpl implements ProfileCommandService {
         // Save updated profile
         var savedProfile = profileRepository.save(profile);
 
+        // Let the leaderboard move the user to the partition of its new cycle
+        if (previousCycle != savedProfile.getCycle()) {
+            eventPublisher.publishEvent(new ProfileCycleChangedEvent(
+                    savedProfile.getUserId(),
+                    previousCycle != null ? previousCycle.name() : null,
+                    savedProfile.getCycle() != null ? savedProfile.getCycle().name() : null
+            ));
+            logger.info("ProfileCycleChangedEvent published - userId: {}, cycle: {} → {}",
+                    savedProfile.getUserId(), previousCycle, savedProfile.getCycle());
+        }
+
         // Publish Kafka event notifying community about profile updates
         var profileUpdatedEvent = new ProfileUpdatedEvent(
                 savedProfile.getUserId(),
@@ -6,12 +6,17 @@ import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.q
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUsernameQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetStudentCyclesByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetUsernamesByUserIdsQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.SearchUsersByUsernameQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.StudentCycle;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.services.ProfileQueryService;
 import com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.persistence.jpa.repositories.ProfileRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -65,4 +70,28 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
     public List<Profile> handle(GetAllProfilesForSyncQuery query) {
         return profileRepository.findAll();
     }
+
+    // inherited javadoc
+    @Override
+    public Map<String, String> handle(GetUsernamesByUserIdsQuery query) {
+        var usernames = new HashMap<String, String>(query.userIds().size() * 2);
+        if (query.userIds().isEmpty()) {
+            return usernames;
+        }
+        for (Object[] row : profileRepository.findUsernamesByUserIdIn(query.userIds())) {
+            usernames.put((String) row[0], (String) row[1]);
+        }
+        return usernames;
+    }
+
+    // inherited javadoc
+    @Override
+    public Map<String, StudentCycle> handle(GetStudentCyclesByUserIdQuery query) {
+        var rows = profileRepository.findAllStudentCycles();
+        var cycles = new HashMap<String, StudentCycle>(rows.size() * 2);
+        for (Object[] row : rows) {
+            cycles.put((String) row[0], (StudentCycle) row[1]);
+        }
+        return cycles;
+    }
 }
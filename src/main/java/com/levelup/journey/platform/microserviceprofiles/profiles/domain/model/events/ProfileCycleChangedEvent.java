@@ -0,0 +1,36 @@
+package com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.events;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Profile Cycle Changed Event
+ * Domain event published when a profile moves to a different student cycle.
+ * The Leaderboard BC uses it to move the user between its per-cycle leaderboards.
+ *
+ * Cycles are carried by name so other bounded contexts do not depend on
+ * the StudentCycle enum of the Profiles BC.
+ */
+@Getter
+public class ProfileCycleChangedEvent {
+
+    private final String userId;
+    private final String previousCycle;
+    private final String cycle;
+    private final LocalDateTime occurredOn;
+
+    /**
+     * Constructor
+     *
+     * @param userId The user's unique identifier (UUID)
+     * @param previousCycle The previous student cycle name, null if none was set
+     * @param cycle The new student cycle name, null if it was cleared
+     */
+    public ProfileCycleChangedEvent(String userId, String previousCycle, String cycle) {
+        this.userId = userId;
+        this.previousCycle = previousCycle;
+        this.cycle = cycle;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
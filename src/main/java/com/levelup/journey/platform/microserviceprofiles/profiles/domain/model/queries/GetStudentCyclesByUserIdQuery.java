@@ -0,0 +1,8 @@
+package com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries;
+
+/**
+ * Get Student Cycles By User ID Query
+ * Resolves the student cycle of every user that has one
+ */
+public record GetStudentCyclesByUserIdQuery() {
+}
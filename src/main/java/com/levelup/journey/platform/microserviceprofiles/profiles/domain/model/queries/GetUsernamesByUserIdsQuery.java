@@ -0,0 +1,17 @@
+package com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Get Usernames By User IDs Query
+ * Resolves the usernames of many users at once
+ */
+public record GetUsernamesByUserIdsQuery(Collection<String> userIds) {
+    public GetUsernamesByUserIdsQuery {
+        if (userIds == null) {
+            throw new IllegalArgumentException("User IDs cannot be null");
+        }
+        userIds = Set.copyOf(userIds);
+    }
+}
@@ -6,9 +6,13 @@ import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.q
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUsernameQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetStudentCyclesByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetUsernamesByUserIdsQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.SearchUsersByUsernameQuery;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.StudentCycle;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -63,4 +67,20 @@ public interface ProfileQueryService {
      * @return A list of all {@link Profile} instances
      */
     List<Profile> handle(GetAllProfilesForSyncQuery query);
+
+    /**
+     * Handle Get Usernames By User IDs Query
+     *
+     * @param query The {@link GetUsernamesByUserIdsQuery} Query
+     * @return A map of user ID to username; users without a profile are absent
+     */
+    Map<String, String> handle(GetUsernamesByUserIdsQuery query);
+
+    /**
+     * Handle Get Student Cycles By User ID Query
+     *
+     * @param query The {@link GetStudentCyclesByUserIdQuery} Query
+     * @return A map of user ID to {@link StudentCycle}; users without a cycle are absent
+     */
+    Map<String, StudentCycle> handle(GetStudentCyclesByUserIdQuery query);
 }
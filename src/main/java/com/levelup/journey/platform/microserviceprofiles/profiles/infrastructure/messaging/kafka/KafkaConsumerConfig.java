@@ -12,6 +12,7 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.util.backoff.FixedBackOff;
 
@@ -93,4 +94,81 @@ public class KafkaConsumerConfig {
         
         return factory;
     }
+
+    /**
+     * Batch listener container factory
+     * Hands a whole poll (up to max.poll.records) to the listener as one List, so it can be
+     * written in one transaction. A failed batch is retried as a whole with the same back-off.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+            (record, exception) -> {
+                log.error("❌ Error processing Kafka record of batch after retries: key={}, topic={}, partition={}, offset={}",
+                    record.key(), record.topic(), record.partition(), record.offset(), exception);
+            },
+            new FixedBackOff(1000L, 3L)
+        ));
+
+        log.info("✅ Kafka Batch Listener Container Factory configured with error handling");
+
+        return factory;
+    }
+
+    /**
+     * Exactly-once batch listener container factory
+     * Same as the batch factory, but Kafka auto-commit is disabled: offsets stored with the scores
+     * are authoritative, and the container only commits a batch after the listener's transaction committed.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> exactlyOnceBatchKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+            (record, exception) -> {
+                log.error("❌ Error processing Kafka record of exactly-once batch after retries: key={}, topic={}, partition={}, offset={}",
+                    record.key(), record.topic(), record.partition(), record.offset(), exception);
+            },
+            new FixedBackOff(1000L, 3L)
+        ));
+
+        log.info("✅ Kafka Exactly-Once Batch Listener Container Factory configured without auto-commit");
+
+        return factory;
+    }
+
+    /**
+     * Leaderboard changes listener container factory
+     * Every instance reads all partitions of the leaderboard-changes topic through manual assignment,
+     * so no consumer group is created and no offset is ever committed.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> leaderboardChangesKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        // Records are never acknowledged, so the container never commits offsets
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        log.info("✅ Kafka Leaderboard Changes Listener Container Factory configured without consumer group");
+
+        return factory;
+    }
 }
@@ -0,0 +1,74 @@
+package com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.CreateProfileFromUserCommand;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka Deserializer for User Registration Events
+ * Binds user-registered payloads straight into {@link CreateProfileFromUserCommand}
+ * with Jackson's streaming parser, without a String copy or JsonNode tree per record.
+ * Invalid payloads are logged and deserialized to null, which the listener skips
+ */
+@Slf4j
+public class UserRegisteredEventDeserializer implements Deserializer<CreateProfileFromUserCommand> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public CreateProfileFromUserCommand deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        String userId = null;
+        String firstName = "";
+        String lastName = "";
+        String profileUrl = null;
+        String provider = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Payload is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    // Nested values are not part of the event; a known field holding one stays unset
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "userId" -> userId = parser.getValueAsString();
+                    case "firstName" -> firstName = parser.getValueAsString("");
+                    case "lastName" -> lastName = parser.getValueAsString("");
+                    case "profileUrl" -> profileUrl = parser.getValueAsString();
+                    case "provider" -> provider = parser.getValueAsString();
+                    default -> {
+                        // Unknown scalar field
+                    }
+                }
+            }
+
+            // Validate event data
+            if (userId == null || userId.trim().isEmpty()) {
+                log.error("❌ Invalid event on topic={}: userId is null or empty", topic);
+                return null;
+            }
+
+            log.debug("📥 Parsed event: userId={}, firstName={}, lastName={}", userId, firstName, lastName);
+
+            return new CreateProfileFromUserCommand(userId, firstName, lastName, profileUrl, provider);
+        } catch (Exception e) {
+            log.error("❌ Skipping invalid UserRegistered event on topic={}: {}", topic, e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -1,25 +1,33 @@
 package com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.CreateProfileFromUserCommand;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.UpdateProfileCommand;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.queries.GetProfileByUserIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.UserId;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.services.ProfileCommandService;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.services.ProfileQueryService;
+import com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka.KeyOrderedBatchProcessor;
+import com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka.KeyOrderedProcessingException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Kafka Event Listener for User Registration Events
  * Listens to the user-registered topic and creates or updates profiles automatically
  * Only enabled when app.kafka.enabled=true
+ *
+ * Records are consumed in batches and fanned out per userId by the
+ * {@link KeyOrderedBatchProcessor}: registrations of different users are
+ * applied in parallel, those of the same user strictly in order. Payloads arrive
+ * already bound to commands by {@link UserRegisteredEventDeserializer}; invalid
+ * records have a null value and are skipped.
  */
 @Component
 @Slf4j
@@ -28,62 +36,58 @@ public class UserRegisteredEventListener {
 
     private final ProfileCommandService profileCommandService;
     private final ProfileQueryService profileQueryService;
-    private final ObjectMapper objectMapper;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
 
     public UserRegisteredEventListener(
             ProfileCommandService profileCommandService,
             ProfileQueryService profileQueryService,
-            ObjectMapper objectMapper) {
+            KeyOrderedBatchProcessor keyOrderedBatchProcessor) {
         this.profileCommandService = profileCommandService;
         this.profileQueryService = profileQueryService;
-        this.objectMapper = objectMapper;
+        this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
     }
 
     /**
      * Listens to user registration events from IAM service
      * Topic: configured in app.kafka.topics.user-registered
-     * Parsea JSON directamente sin DTOs (DDD compliant)
      *
-     * @param message The JSON message from Kafka
-     * @param topic The topic name
-     * @param partition The partition number
-     * @param offset The offset in the partition
+     * @param records The records of one poll
      */
     @KafkaListener(
         topics = "${app.kafka.topics.user-registered}",
         groupId = "${spring.kafka.consumer.group-id}",
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "batchKafkaListenerContainerFactory",
+        properties = "value.deserializer=com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka.UserRegisteredEventDeserializer"
     )
-    public void handleUserRegistered(
-            @Payload String message,
-            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset
-    ) {
-        log.info("📥 Received UserRegistered message from topic={}, partition={}, offset={}", topic, partition, offset);
-
-        String userId = null;
-        try {
-            // Parse JSON directly without DTO (DDD compliant)
-            JsonNode eventData = objectMapper.readTree(message);
-
-            userId = eventData.get("userId").asText();
-            String email = eventData.has("email") ? eventData.get("email").asText() : null;
-            String firstName = eventData.has("firstName") ? eventData.get("firstName").asText() : "";
-            String lastName = eventData.has("lastName") ? eventData.get("lastName").asText() : "";
-            String profileUrl = eventData.has("profileUrl") && !eventData.get("profileUrl").isNull()
-                    ? eventData.get("profileUrl").asText() : null;
-            String provider = eventData.has("provider") ? eventData.get("provider").asText() : null;
-
-            log.info("📥 Parsed event: userId={}, email={}, firstName={}, lastName={}",
-                    userId, email, firstName, lastName);
+    public void handleUserRegistered(List<ConsumerRecord<String, CreateProfileFromUserCommand>> records) {
+        log.info("📥 Received {} UserRegistered messages", records.size());
 
-            // Validate event data
-            if (userId == null || userId.trim().isEmpty()) {
-                log.error("❌ Invalid event: userId is null or empty");
-                throw new IllegalArgumentException("userId cannot be null or empty");
+        var registrations = new ArrayList<UserRegistration>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            var command = records.get(i).value();
+            if (command != null) {
+                registrations.add(new UserRegistration(i, command));
             }
+        }
+
+        try {
+            keyOrderedBatchProcessor.process(registrations, registration -> registration.command().userId(),
+                    group -> group.forEach(registration -> apply(registration.command())));
+        } catch (KeyOrderedProcessingException e) {
+            int index = registrations.get(e.getFailedPosition()).index();
+            // Re-lanzar para que el error handler confirme hasta el registro fallido y reintente desde ahí
+            throw new BatchListenerFailedException("Failed to process UserRegistered event", e.getCause(), index);
+        }
+    }
 
+    /**
+     * Create the profile of a registered user, or update it if it already exists
+     *
+     * @param command The parsed registration
+     */
+    private void apply(CreateProfileFromUserCommand command) {
+        String userId = command.userId();
+        try {
             var userIdVO = new UserId(userId);
             var existingProfile = profileQueryService.handle(new GetProfileByUserIdQuery(userIdVO));
 
@@ -94,11 +98,11 @@ public class UserRegisteredEventListener {
 
                 var updateCommand = new UpdateProfileCommand(
                         profile.getId(),
-                        firstName,
-                        lastName,
+                        command.firstName(),
+                        command.lastName(),
                         profile.getUsername(), // Keep existing username
-                        profileUrl,
-                        provider,
+                        command.profileUrl(),
+                        command.provider(),
                         null // cycle not provided in event
                 );
 
@@ -112,15 +116,7 @@ public class UserRegisteredEventListener {
                 // Create new profile
                 log.info("➕ Creating new profile for userId={}", userId);
 
-                var createCommand = new CreateProfileFromUserCommand(
-                        userId,
-                        firstName,
-                        lastName,
-                        profileUrl,
-                        provider
-                );
-
-                var profile = profileCommandService.handle(createCommand);
+                var profile = profileCommandService.handle(command);
                 if (profile.isPresent()) {
                     log.info("✅ Successfully created profile for userId={}, username={}, profileId={}",
                         userId, profile.get().getUsername(), profile.get().getId());
@@ -129,11 +125,15 @@ public class UserRegisteredEventListener {
                 }
             }
         } catch (Exception e) {
-            String userIdForLog = (userId != null) ? userId : "unknown";
             log.error("❌ Error processing UserRegistered event for userId={}: {}",
-                userIdForLog, e.getMessage(), e);
-            // Re-lanzar para que el error handler lo maneje con reintentos
+                userId, e.getMessage(), e);
             throw new RuntimeException("Failed to process UserRegistered event", e);
         }
     }
+
+    /**
+     * Parsed registration and the position of its record in the poll
+     */
+    private record UserRegistration(int index, CreateProfileFromUserCommand command) {
+    }
 }
@@ -4,8 +4,11 @@ import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.a
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.UserId;
 import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.valueobjects.Username;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -61,4 +64,21 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
      * @return A list of {@link Profile} instances matching the pattern
      */
     java.util.List<Profile> findByUsernameUsernameContainingIgnoreCase(String usernamePattern);
+
+    /**
+     * Find the usernames of a set of users with a single IN query
+     *
+     * @param userIds User ID string values
+     * @return List of Object arrays containing [userId, username]
+     */
+    @Query("SELECT p.userId.userId, p.username.username FROM Profile p WHERE p.userId.userId IN :userIds")
+    java.util.List<Object[]> findUsernamesByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Find the student cycle of every user that has one
+     *
+     * @return List of Object arrays containing [userId, cycle]
+     */
+    @Query("SELECT p.userId.userId, p.cycle FROM Profile p WHERE p.cycle IS NOT NULL")
+    java.util.List<Object[]> findAllStudentCycles();
 }
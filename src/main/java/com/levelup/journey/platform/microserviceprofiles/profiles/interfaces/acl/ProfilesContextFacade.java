@@ -1,5 +1,9 @@
 package com.levelup.journey.platform.microserviceprofiles.profiles.interfaces.acl;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Profiles Context Facade
  * ACL interface for accessing Profile information from other bounded contexts
@@ -18,6 +22,14 @@ public interface ProfilesContextFacade {
      */
     String getUsernameByUserId(String userId);
 
+    /**
+     * Get usernames for many user IDs with a single lookup
+     *
+     * @param userIds The users' unique identifiers
+     * @return Map of user ID to username; users without a profile are absent
+     */
+    Map<String, String> getUsernamesByUserIds(Collection<String> userIds);
+
     /**
      * Get profile ID by user ID
      *
@@ -33,4 +45,26 @@ public interface ProfilesContextFacade {
      * @return The user ID, or null if not found
      */
     String getUserIdByUsername(String username);
+
+    /**
+     * Get the names of all student cycles
+     *
+     * @return Student cycle names, in declaration order
+     */
+    List<String> getStudentCycles();
+
+    /**
+     * Get the student cycle of a user
+     *
+     * @param userId The user's unique identifier
+     * @return The student cycle name, or null if the user has no profile or no cycle
+     */
+    String getStudentCycleByUserId(String userId);
+
+    /**
+     * Get the student cycle of every user that has one
+     *
+     * @return Map of user ID to student cycle name
+     */
+    Map<String, String> getStudentCyclesByUserId();
 }
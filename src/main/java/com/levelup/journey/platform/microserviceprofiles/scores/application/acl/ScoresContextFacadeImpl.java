@@ -2,9 +2,13 @@ package com.levelup.journey.platform.microserviceprofiles.scores.application.acl
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
 import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreRepository;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.UserScoreTotalRepository;
 import com.levelup.journey.platform.microserviceprofiles.scores.interfaces.acl.ScoresContextFacade;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +21,12 @@ import java.util.Map;
 public class ScoresContextFacadeImpl implements ScoresContextFacade {
 
     private final ScoreRepository scoreRepository;
+    private final UserScoreTotalRepository userScoreTotalRepository;
 
-    public ScoresContextFacadeImpl(ScoreRepository scoreRepository) {
+    public ScoresContextFacadeImpl(ScoreRepository scoreRepository,
+                                   UserScoreTotalRepository userScoreTotalRepository) {
         this.scoreRepository = scoreRepository;
+        this.userScoreTotalRepository = userScoreTotalRepository;
     }
 
     @Override
@@ -27,18 +34,18 @@ public class ScoresContextFacadeImpl implements ScoresContextFacade {
         if (userId == null || userId.isBlank()) {
             return 0;
         }
-        return scoreRepository.sumPointsByUserId(userId);
+        return userScoreTotalRepository.findTotalPointsByUserId(userId).orElse(0);
     }
 
     @Override
     public Map<String, Integer> getAllUserTotalPoints() {
-        List<Object[]> results = scoreRepository.findAllUserTotalPoints();
+        List<Object[]> results = userScoreTotalRepository.findAllUserTotalPoints();
         Map<String, Integer> userPointsMap = new HashMap<>();
 
         for (Object[] result : results) {
             String userId = (String) result[0];
-            Long totalPoints = (Long) result[1];
-            userPointsMap.put(userId, totalPoints.intValue());
+            Integer totalPoints = (Integer) result[1];
+            userPointsMap.put(userId, totalPoints);
         }
 
         return userPointsMap;
@@ -57,6 +64,21 @@ public class ScoresContextFacadeImpl implements ScoresContextFacade {
         if (minPoints == null || minPoints < 0) {
             minPoints = 0;
         }
-        return scoreRepository.findUserIdsWithMinimumPoints(minPoints);
+        return userScoreTotalRepository.findUserIdsWithMinimumPoints(minPoints);
+    }
+
+    @Override
+    public Map<String, Map<LocalDate, Integer>> getDailyPointsByUserSince(LocalDate since) {
+        var sinceDate = Date.from(since.atStartOfDay(ZoneOffset.UTC).toInstant());
+        Map<String, Map<LocalDate, Integer>> dailyPoints = new HashMap<>();
+
+        for (Object[] result : scoreRepository.findPointsCreatedSince(sinceDate)) {
+            String userId = (String) result[0];
+            Integer points = (Integer) result[1];
+            var day = ((Date) result[2]).toInstant().atOffset(ZoneOffset.UTC).toLocalDate();
+            dailyPoints.computeIfAbsent(userId, ignored -> new HashMap<>()).merge(day, points, Integer::sum);
+        }
+
+        return dailyPoints;
     }
 }
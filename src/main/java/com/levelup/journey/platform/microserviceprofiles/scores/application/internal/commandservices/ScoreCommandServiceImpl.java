@@ -1,17 +1,25 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.application.internal.commandservices;
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RebuildUserScoreTotalsCommand;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoresFromChallengesCommand;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.events.ScoreUpdatedEvent;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreSource;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreCommandService;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreIngestionCheckpointRepository;
 import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreRepository;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.UserScoreTotalRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Score Command Service Implementation
@@ -19,14 +27,30 @@ import java.util.Optional;
  */
 @Service
 public class ScoreCommandServiceImpl implements ScoreCommandService {
-    
+
+    /**
+     * Scores of one user within a batch
+     */
+    private static final class UserBatch {
+        private int points;
+        private int scoreCount;
+        private long executionTimeMs;
+        private long solutionTimeSeconds;
+    }
+
     private static final Logger logger = LoggerFactory.getLogger(ScoreCommandServiceImpl.class);
     private final ScoreRepository scoreRepository;
+    private final UserScoreTotalRepository userScoreTotalRepository;
+    private final ScoreIngestionCheckpointRepository scoreIngestionCheckpointRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    public ScoreCommandServiceImpl(ScoreRepository scoreRepository, 
+    public ScoreCommandServiceImpl(ScoreRepository scoreRepository,
+                                   UserScoreTotalRepository userScoreTotalRepository,
+                                   ScoreIngestionCheckpointRepository scoreIngestionCheckpointRepository,
                                    ApplicationEventPublisher eventPublisher) {
         this.scoreRepository = scoreRepository;
+        this.userScoreTotalRepository = userScoreTotalRepository;
+        this.scoreIngestionCheckpointRepository = scoreIngestionCheckpointRepository;
         this.eventPublisher = eventPublisher;
     }
 
@@ -39,8 +63,9 @@ public class ScoreCommandServiceImpl implements ScoreCommandService {
         // Persist score
         var savedScore = scoreRepository.save(score);
         
-        // Calculate new total points for the user
-        var totalPoints = scoreRepository.sumPointsByUserId(savedScore.getUserId());
+        // Add the points to the running total in the same transaction, then read it back by key
+        userScoreTotalRepository.incrementTotalPoints(savedScore.getUserId(), savedScore.getPoints());
+        var totalPoints = userScoreTotalRepository.findTotalPointsByUserId(savedScore.getUserId()).orElse(0);
 
         // Publish domain event for other contexts with execution and solution times
         var event = new ScoreUpdatedEvent(
@@ -58,5 +83,69 @@ public class ScoreCommandServiceImpl implements ScoreCommandService {
         
         return Optional.of(savedScore);
     }
-}
 
+    @Override
+    @Transactional
+    public Integer handle(RecordScoresFromChallengesCommand command) {
+        // Offsets commit or roll back together with the scores they cover
+        if (!command.positions().isEmpty()) {
+            var positions = command.positions();
+            scoreIngestionCheckpointRepository.upsertNextOffsets(
+                    positions.stream().map(ScoreIngestionPosition::consumerGroup).toArray(String[]::new),
+                    positions.stream().map(ScoreIngestionPosition::topic).toArray(String[]::new),
+                    positions.stream().map(ScoreIngestionPosition::partition).toArray(Integer[]::new),
+                    positions.stream().map(ScoreIngestionPosition::nextOffset).toArray(Long[]::new));
+        }
+        if (command.scores().isEmpty()) {
+            return 0;
+        }
+
+        // Inserts are sent as JDBC batches (hibernate.jdbc.batch_size, order_inserts)
+        var scores = command.scores().stream().map(Score::new).toList();
+        scoreRepository.saveAll(scores);
+
+        // Sorted by user ID so concurrent batches lock the total rows in the same order
+        var batchesByUserId = new TreeMap<String, UserBatch>();
+        for (RecordScoreFromChallengeCommand score : command.scores()) {
+            var batch = batchesByUserId.computeIfAbsent(score.userId(), ignored -> new UserBatch());
+            batch.points += score.points();
+            batch.scoreCount++;
+            batch.executionTimeMs += score.executionTimeMs();
+            batch.solutionTimeSeconds += score.solutionTimeSeconds();
+        }
+
+        var userIds = batchesByUserId.keySet().toArray(String[]::new);
+        var points = batchesByUserId.values().stream().map(batch -> batch.points).toArray(Integer[]::new);
+        var scoreCounts = batchesByUserId.values().stream().map(batch -> batch.scoreCount).toArray(Integer[]::new);
+        userScoreTotalRepository.incrementTotalPoints(userIds, points, scoreCounts);
+
+        var totalsByUserId = new HashMap<String, Integer>();
+        for (Object[] row : userScoreTotalRepository.findTotalPointsByUserIds(batchesByUserId.keySet())) {
+            totalsByUserId.put((String) row[0], (Integer) row[1]);
+        }
+
+        // One event per affected user, carrying the points earned in the whole batch
+        batchesByUserId.forEach((userId, batch) -> eventPublisher.publishEvent(new ScoreUpdatedEvent(
+                userId,
+                totalsByUserId.getOrDefault(userId, 0),
+                batch.points,
+                ScoreSource.CHALLENGE_COMPLETED.name(),
+                batch.executionTimeMs,
+                batch.solutionTimeSeconds
+        )));
+
+        logger.debug("Recorded {} scores for {} users in one batch", scores.size(), batchesByUserId.size());
+        return scores.size();
+    }
+
+    @Override
+    @Transactional
+    public Integer handle(RebuildUserScoreTotalsCommand command) {
+        userScoreTotalRepository.lockForRebuild();
+        userScoreTotalRepository.deleteAllTotals();
+        var rebuiltCount = userScoreTotalRepository.insertTotalsFromScores();
+
+        logger.info("Rebuilt running score totals for {} users", rebuiltCount);
+        return rebuiltCount;
+    }
+}
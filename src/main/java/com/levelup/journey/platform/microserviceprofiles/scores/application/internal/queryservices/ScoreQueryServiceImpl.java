@@ -1,15 +1,29 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.application.internal.queryservices;
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.ScoreIngestionCheckpoint;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoreIngestionPositionsQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetTotalPointsByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamScoresByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreQueryService;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreIngestionCheckpointRepository;
 import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreRepository;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.UserScoreTotalRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Score Query Service Implementation
@@ -19,9 +33,18 @@ import java.util.List;
 public class ScoreQueryServiceImpl implements ScoreQueryService {
     
     private final ScoreRepository scoreRepository;
+    private final UserScoreTotalRepository userScoreTotalRepository;
+    private final ScoreIngestionCheckpointRepository scoreIngestionCheckpointRepository;
+    private final EntityManager entityManager;
 
-    public ScoreQueryServiceImpl(ScoreRepository scoreRepository) {
+    public ScoreQueryServiceImpl(ScoreRepository scoreRepository,
+                                 UserScoreTotalRepository userScoreTotalRepository,
+                                 ScoreIngestionCheckpointRepository scoreIngestionCheckpointRepository,
+                                 EntityManager entityManager) {
         this.scoreRepository = scoreRepository;
+        this.userScoreTotalRepository = userScoreTotalRepository;
+        this.scoreIngestionCheckpointRepository = scoreIngestionCheckpointRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,7 +56,7 @@ public class ScoreQueryServiceImpl implements ScoreQueryService {
     @Override
     @Transactional(readOnly = true)
     public Integer handle(GetTotalPointsByUserIdQuery query) {
-        return scoreRepository.sumPointsByUserId(query.userId().userId());
+        return userScoreTotalRepository.findTotalPointsByUserId(query.userId().userId()).orElse(0);
     }
 
     @Override
@@ -41,4 +64,70 @@ public class ScoreQueryServiceImpl implements ScoreQueryService {
     public List<Score> handle(GetAllScoresQuery query) {
         return scoreRepository.findAll();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScoreIngestionPosition> handle(GetScoreIngestionPositionsQuery query) {
+        return scoreIngestionCheckpointRepository.findByConsumerGroupAndTopic(query.consumerGroup(), query.topic())
+                .stream()
+                .map(ScoreIngestionCheckpoint::toPosition)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Score> handle(GetAllScoresPageQuery query) {
+        var pageable = PageRequest.of(0, query.limit());
+        if (query.cursor() == null) {
+            return scoreRepository.findFirstScores(pageable);
+        }
+        // Timestamp keeps sub-millisecond precision of the stored creation time
+        return scoreRepository.findScoresAfter(
+                Timestamp.from(query.cursor().createdAt()), query.cursor().scoreId(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Score> handle(GetScoresByUserIdPageQuery query) {
+        var pageable = PageRequest.of(0, query.limit());
+        if (query.cursor() == null) {
+            return scoreRepository.findFirstScoresByUserId(query.userId(), pageable);
+        }
+        return scoreRepository.findScoresByUserIdAfter(
+                query.userId(), Timestamp.from(query.cursor().createdAt()), query.cursor().scoreId(), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long handle(StreamAllScoresQuery query, Consumer<Score> consumer) {
+        return consume(scoreRepository.streamAllScores(), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long handle(StreamScoresByUserIdQuery query, Consumer<Score> consumer) {
+        return consume(scoreRepository.streamScoresByUserId(query.userId()), consumer);
+    }
+
+    /**
+     * Drain a score cursor into a consumer
+     * Each score is detached once consumed so the persistence context does not grow with the result
+     *
+     * @param scores Open cursor over the scores
+     * @param consumer Receives each score
+     * @return Number of scores read
+     */
+    private long consume(Stream<Score> scores, Consumer<Score> consumer) {
+        long count = 0;
+        try (scores) {
+            var iterator = scores.iterator();
+            while (iterator.hasNext()) {
+                var score = iterator.next();
+                consumer.accept(score);
+                entityManager.detach(score);
+                count++;
+            }
+        }
+        return count;
+    }
 }
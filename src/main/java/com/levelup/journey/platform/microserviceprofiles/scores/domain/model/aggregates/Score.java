@@ -3,6 +3,7 @@ package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.ag
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ChallengeId;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.Points;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreCursor;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreSource;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
 import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
@@ -13,7 +14,10 @@ import jakarta.persistence.*;
  * Represents a single score record awarded to a user
  */
 @Entity
-@Table(name = "scores")
+@Table(name = "scores", uniqueConstraints = {
+        // Dedupe key: a redelivered challenge completion cannot be recorded twice
+        @UniqueConstraint(name = "uk_scores_user_challenge_source", columnNames = {"user_id", "challenge_id", "source"})
+})
 public class Score extends AuditableAbstractAggregateRoot<Score> {
 
     @Embedded
@@ -64,6 +68,15 @@ public class Score extends AuditableAbstractAggregateRoot<Score> {
         this.solutionTimeSeconds = command.solutionTimeSeconds();
     }
 
+    /**
+     * Keyset cursor pointing right after this score
+     *
+     * @return The {@link ScoreCursor} of this score
+     */
+    public ScoreCursor toCursor() {
+        return new ScoreCursor(getCreatedAt().toInstant(), getId());
+    }
+
     // Getters
     public String getUserId() {
         return userId.userId();
@@ -0,0 +1,64 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+
+/**
+ * Score Ingestion Checkpoint Aggregate Root
+ * Next Kafka offset to ingest for one (consumer group, topic, partition).
+ *
+ * Rows are written by an UPSERT in the same transaction as the scores they
+ * cover (see ScoreIngestionCheckpointRepository), so a committed score and
+ * its offset can never disagree; consumers seek here on partition assignment.
+ */
+@Entity
+@Table(name = "score_ingestion_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_score_ingestion_checkpoints_group_topic_partition",
+                columnNames = {"consumer_group", "topic", "partition_number"})
+})
+public class ScoreIngestionCheckpoint extends AuditableAbstractAggregateRoot<ScoreIngestionCheckpoint> {
+
+    @Column(name = "consumer_group", nullable = false)
+    private String consumerGroup;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "partition_number", nullable = false)
+    private Integer partitionNumber;
+
+    @Column(name = "next_offset", nullable = false)
+    private Long nextOffset;
+
+    protected ScoreIngestionCheckpoint() {
+        // JPA constructor
+    }
+
+    /**
+     * Convert to a position value object
+     *
+     * @return The {@link ScoreIngestionPosition}
+     */
+    public ScoreIngestionPosition toPosition() {
+        return new ScoreIngestionPosition(consumerGroup, topic, partitionNumber, nextOffset);
+    }
+
+    // Getters
+
+    public String getConsumerGroup() {
+        return consumerGroup;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public Integer getPartitionNumber() {
+        return partitionNumber;
+    }
+
+    public Long getNextOffset() {
+        return nextOffset;
+    }
+}
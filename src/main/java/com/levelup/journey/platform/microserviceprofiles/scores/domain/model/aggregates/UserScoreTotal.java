@@ -0,0 +1,48 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+
+/**
+ * User Score Total Aggregate Root
+ * Running total of the points awarded to a user.
+ *
+ * Rows are maintained by an atomic UPSERT in the same transaction as every
+ * score insert (see UserScoreTotalRepository), so reading a user's total is a
+ * single unique-key lookup instead of a SUM over the whole score history.
+ */
+@Entity
+@Table(name = "user_score_totals")
+public class UserScoreTotal extends AuditableAbstractAggregateRoot<UserScoreTotal> {
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "userId", column = @Column(name = "user_id", nullable = false, unique = true))
+    })
+    private ScoreUserId userId;
+
+    @Column(name = "total_points", nullable = false)
+    private Integer totalPoints;
+
+    @Column(name = "score_count", nullable = false)
+    private Integer scoreCount;
+
+    protected UserScoreTotal() {
+        // JPA constructor
+    }
+
+    // Getters
+
+    public String getUserId() {
+        return userId.userId();
+    }
+
+    public Integer getTotalPoints() {
+        return totalPoints;
+    }
+
+    public Integer getScoreCount() {
+        return scoreCount;
+    }
+}
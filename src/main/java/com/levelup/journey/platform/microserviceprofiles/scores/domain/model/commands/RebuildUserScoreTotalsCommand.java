@@ -0,0 +1,9 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands;
+
+/**
+ * Rebuild User Score Totals Command
+ * Recomputes every user's running total from the score history (repair operation)
+ */
+public record RebuildUserScoreTotalsCommand() {
+    // No parameters needed - operates on all users
+}
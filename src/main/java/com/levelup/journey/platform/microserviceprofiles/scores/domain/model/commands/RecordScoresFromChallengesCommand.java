@@ -0,0 +1,29 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
+
+import java.util.List;
+
+/**
+ * Record Scores From Challenges Command
+ * Records a batch of challenge completions (e.g. one Kafka poll) in a single transaction.
+ * Ingestion positions, when given, are stored in that same transaction; a batch may then
+ * hold positions only, when every record of the poll was skipped
+ */
+public record RecordScoresFromChallengesCommand(List<RecordScoreFromChallengeCommand> scores,
+                                                List<ScoreIngestionPosition> positions) {
+    public RecordScoresFromChallengesCommand {
+        if (scores == null || positions == null) {
+            throw new IllegalArgumentException("Scores and positions cannot be null");
+        }
+        if (scores.isEmpty() && positions.isEmpty()) {
+            throw new IllegalArgumentException("Scores and positions cannot both be empty");
+        }
+        scores = List.copyOf(scores);
+        positions = List.copyOf(positions);
+    }
+
+    public RecordScoresFromChallengesCommand(List<RecordScoreFromChallengeCommand> scores) {
+        this(scores, List.of());
+    }
+}
@@ -0,0 +1,15 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreCursor;
+
+/**
+ * Query to get the score records that follow a keyset cursor, across all users
+ * (first page when the cursor is null)
+ */
+public record GetAllScoresPageQuery(Integer limit, ScoreCursor cursor) {
+    public GetAllScoresPageQuery {
+        if (limit == null || limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("Limit must be between 1 and 1000");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries;
+
+/**
+ * Query to get the stored ingestion positions of a consumer group on a topic
+ */
+public record GetScoreIngestionPositionsQuery(String consumerGroup, String topic) {
+    public GetScoreIngestionPositionsQuery {
+        if (consumerGroup == null || consumerGroup.isBlank()) {
+            throw new IllegalArgumentException("Consumer group cannot be null or empty");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreCursor;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
+
+/**
+ * Query to get the score records of a user that follow a keyset cursor
+ * (first page when the cursor is null)
+ */
+public record GetScoresByUserIdPageQuery(ScoreUserId userId, Integer limit, ScoreCursor cursor) {
+    public GetScoresByUserIdPageQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (limit == null || limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("Limit must be between 1 and 1000");
+        }
+    }
+}
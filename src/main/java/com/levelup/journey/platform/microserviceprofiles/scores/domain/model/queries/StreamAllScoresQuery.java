@@ -0,0 +1,8 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries;
+
+/**
+ * Query to read every score record across all users, one at a time, in listing order
+ */
+public record StreamAllScoresQuery() {
+    // No parameters needed - reads the whole score history
+}
@@ -0,0 +1,14 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
+
+/**
+ * Query to read every score record of a user, one at a time, in listing order
+ */
+public record StreamScoresByUserIdQuery(ScoreUserId userId) {
+    public StreamScoresByUserIdQuery {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+    }
+}
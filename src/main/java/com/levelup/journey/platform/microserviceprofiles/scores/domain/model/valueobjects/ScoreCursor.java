@@ -0,0 +1,48 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects;
+
+import com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects.KeysetCursorCodec;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Score Cursor Value Object
+ * Keyset position of the last score returned by a listing page.
+ *
+ * Follows the listing ordering (created at ASC, score ID ASC), so the next page
+ * is a direct index seek instead of skipping offset rows.
+ * Exposed to clients as an opaque URL-safe token.
+ */
+public record ScoreCursor(Instant createdAt, UUID scoreId) {
+
+    public ScoreCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time cannot be null");
+        }
+        if (scoreId == null) {
+            throw new IllegalArgumentException("Cursor score ID cannot be null");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque continuation token
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        return KeysetCursorCodec.encode(createdAt, scoreId);
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode()}
+     *
+     * @param token The continuation token
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ScoreCursor decode(String token) {
+        return KeysetCursorCodec.decode(token, 2, values -> new ScoreCursor(
+                Instant.parse(values[0]),
+                UUID.fromString(values[1])));
+    }
+}
@@ -0,0 +1,27 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects;
+
+/**
+ * Value object representing how far a consumer group has ingested one partition of a topic
+ *
+ * @param consumerGroup Kafka consumer group
+ * @param topic Topic name
+ * @param partition Partition number
+ * @param nextOffset Offset of the next record to process
+ */
+public record ScoreIngestionPosition(String consumerGroup, String topic, int partition, long nextOffset) {
+
+    public ScoreIngestionPosition {
+        if (consumerGroup == null || consumerGroup.isBlank()) {
+            throw new IllegalArgumentException("Consumer group cannot be null or empty");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+        if (partition < 0) {
+            throw new IllegalArgumentException("Partition cannot be negative");
+        }
+        if (nextOffset < 0) {
+            throw new IllegalArgumentException("Next offset cannot be negative");
+        }
+    }
+}
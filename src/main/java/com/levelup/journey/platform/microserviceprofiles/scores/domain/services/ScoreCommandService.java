@@ -1,7 +1,9 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.domain.services;
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RebuildUserScoreTotalsCommand;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoresFromChallengesCommand;
 
 import java.util.Optional;
 
@@ -19,4 +21,23 @@ public interface ScoreCommandService {
      * @return A {@link Score} instance if the command is valid, otherwise empty
      */
     Optional<Score> handle(RecordScoreFromChallengeCommand command);
+
+    /**
+     * Handle Record Scores From Challenges Command
+     * Inserts a batch of score records, updates each affected user's total once and
+     * publishes one ScoreUpdatedEvent per affected user; stores the ingestion positions atomically
+     *
+     * @param command The {@link RecordScoresFromChallengesCommand} Command
+     * @return Number of score records inserted
+     */
+    Integer handle(RecordScoresFromChallengesCommand command);
+
+    /**
+     * Handle Rebuild User Score Totals Command
+     * Recomputes every running total from the score history; increments wait until it commits
+     *
+     * @param command The {@link RebuildUserScoreTotalsCommand} Command
+     * @return Number of users with a total
+     */
+    Integer handle(RebuildUserScoreTotalsCommand command);
 }
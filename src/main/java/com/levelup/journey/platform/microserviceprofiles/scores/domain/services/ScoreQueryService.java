@@ -1,11 +1,18 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.domain.services;
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoreIngestionPositionsQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetTotalPointsByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamScoresByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Score Query Service
@@ -39,4 +46,52 @@ public interface ScoreQueryService {
      * @return List of all {@link Score} instances
      */
     List<Score> handle(GetAllScoresQuery query);
+
+    /**
+     * Handle Get Score Ingestion Positions Query
+     * Retrieves the stored next offset of every partition a consumer group has ingested
+     *
+     * @param query The {@link GetScoreIngestionPositionsQuery} Query
+     * @return List of {@link ScoreIngestionPosition} instances
+     */
+    List<ScoreIngestionPosition> handle(GetScoreIngestionPositionsQuery query);
+
+    /**
+     * Handle Get All Scores Page Query
+     * Retrieves the score records that follow a keyset cursor, across all users
+     *
+     * @param query The {@link GetAllScoresPageQuery} Query
+     * @return List of at most limit {@link Score} instances in listing order
+     */
+    List<Score> handle(GetAllScoresPageQuery query);
+
+    /**
+     * Handle Get Scores By User ID Page Query
+     * Retrieves the score records of a user that follow a keyset cursor
+     *
+     * @param query The {@link GetScoresByUserIdPageQuery} Query
+     * @return List of at most limit {@link Score} instances in listing order
+     */
+    List<Score> handle(GetScoresByUserIdPageQuery query);
+
+    /**
+     * Handle Stream All Scores Query
+     * Hands every score record to the consumer as it is read from a database cursor;
+     * scores are detached once consumed, so memory stays flat whatever the table size
+     *
+     * @param query The {@link StreamAllScoresQuery} Query
+     * @param consumer Receives each {@link Score} in listing order
+     * @return Number of scores read
+     */
+    long handle(StreamAllScoresQuery query, Consumer<Score> consumer);
+
+    /**
+     * Handle Stream Scores By User ID Query
+     * Hands every score record of a user to the consumer as it is read from a database cursor
+     *
+     * @param query The {@link StreamScoresByUserIdQuery} Query
+     * @param consumer Receives each {@link Score} in listing order
+     * @return Number of scores read
+     */
+    long handle(StreamScoresByUserIdQuery query, Consumer<Score> consumer);
 }
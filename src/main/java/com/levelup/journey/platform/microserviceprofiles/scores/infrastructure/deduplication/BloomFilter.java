@@ -0,0 +1,115 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.deduplication;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom Filter
+ * Fixed-size probabilistic set of strings.
+ *
+ * {@link #mightContain(String)} never returns false for a key that was added;
+ * it may return true for a key that was not (at roughly the configured
+ * false-positive rate while the filter holds up to the expected number of
+ * keys, degrading gracefully beyond it).
+ *
+ * Thread-safe: bits are set with atomic operations, and a concurrent reader
+ * may at worst miss a key that is still being added.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Size a filter for an expected number of keys and false-positive rate
+     *
+     * @param expectedKeys Number of keys the filter is sized for
+     * @param falsePositiveRate Target false-positive rate, e.g. 0.01
+     */
+    public BloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("Expected keys must be at least 1");
+        }
+        if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long optimalBits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round(optimalBits / (double) expectedKeys * ln2));
+    }
+
+    /**
+     * Add a key
+     *
+     * @param key The key
+     */
+    public void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * Check whether a key may have been added
+     *
+     * @param key The key
+     * @return false if the key was definitely never added
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove every key
+     */
+    public void clear() {
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0L);
+        }
+    }
+
+    /**
+     * Size of the bit array
+     *
+     * @return Number of bits
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    private static long hash(String key) {
+        // 64-bit FNV-1a over the UTF-16 chars, finished with a MurmurHash3 avalanche
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
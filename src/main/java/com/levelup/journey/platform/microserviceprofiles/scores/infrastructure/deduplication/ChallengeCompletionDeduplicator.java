@@ -0,0 +1,148 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.deduplication;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreSource;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories.ScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Challenge Completion Deduplicator
+ * Drops challenge completions whose (userId, challengeId, source) key is already recorded.
+ *
+ * A {@link BloomFilter} of every recorded key sits in front of the database:
+ * keys the filter may have seen (redeliveries, plus ~1% false positives) are
+ * checked against the scores table, with one query per batch, and keys it has
+ * never seen skip that round-trip.
+ *
+ * A filter miss only proves a key is new for keys loaded at startup or recorded
+ * by this instance since. Keys recorded by other instances, for example before
+ * a partition rebalance, are unknown to the filter. The unique constraint on
+ * scores stays the source of truth: when it rejects a batch,
+ * {@link #retainUnrecorded} checks every key of that batch against the database.
+ */
+@Component
+public class ChallengeCompletionDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChallengeCompletionDeduplicator.class);
+    private static final ScoreSource SOURCE = ScoreSource.CHALLENGE_COMPLETED;
+
+    private final ScoreRepository scoreRepository;
+    private final BloomFilter recordedKeys;
+    private volatile boolean loaded = false;
+
+    public ChallengeCompletionDeduplicator(
+            ScoreRepository scoreRepository,
+            @Value("${app.scores.deduplication.expected-keys:5000000}") long expectedKeys,
+            @Value("${app.scores.deduplication.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.scoreRepository = scoreRepository;
+        this.recordedKeys = new BloomFilter(expectedKeys, falsePositiveRate);
+    }
+
+    /**
+     * Keep only the completions that were not recorded yet
+     * Duplicates inside the batch are dropped as well, keeping the first occurrence
+     *
+     * @param commands Parsed challenge completions
+     * @return New completions in their original order
+     */
+    public List<RecordScoreFromChallengeCommand> retainNew(List<RecordScoreFromChallengeCommand> commands) {
+        // Until the filter is loaded every key has to be checked against the database
+        return retain(commands, !loaded);
+    }
+
+    /**
+     * Keep only the completions that are not recorded in the database, ignoring the filter
+     * Used after the unique constraint rejected a batch the filter let through
+     *
+     * @param commands Parsed challenge completions
+     * @return New completions in their original order
+     */
+    public List<RecordScoreFromChallengeCommand> retainUnrecorded(List<RecordScoreFromChallengeCommand> commands) {
+        return retain(commands, true);
+    }
+
+    private List<RecordScoreFromChallengeCommand> retain(List<RecordScoreFromChallengeCommand> commands, boolean checkAll) {
+        var unique = new LinkedHashMap<String, RecordScoreFromChallengeCommand>();
+        for (RecordScoreFromChallengeCommand command : commands) {
+            unique.putIfAbsent(key(command.userId(), command.challengeId(), SOURCE), command);
+        }
+
+        var maybeRecorded = unique.entrySet().stream()
+                .filter(entry -> checkAll || recordedKeys.mightContain(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        if (!maybeRecorded.isEmpty()) {
+            var userIds = new HashSet<String>();
+            var challengeIds = new HashSet<String>();
+            maybeRecorded.forEach(command -> {
+                userIds.add(command.userId());
+                challengeIds.add(command.challengeId());
+            });
+            for (Object[] row : scoreRepository.findChallengeKeys(SOURCE, userIds, challengeIds)) {
+                var recordedKey = key((String) row[0], (String) row[1], SOURCE);
+                unique.remove(recordedKey);
+                // Keys recorded by other instances are learnt, so their next redelivery is checked
+                recordedKeys.put(recordedKey);
+            }
+        }
+
+        int dropped = commands.size() - unique.size();
+        if (dropped > 0) {
+            logger.info("⏭️ Dropped {} duplicate challenge completions ({} checked against the database)",
+                    dropped, maybeRecorded.size());
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * Remember completions that were recorded
+     *
+     * @param commands Recorded challenge completions
+     */
+    public void markRecorded(List<RecordScoreFromChallengeCommand> commands) {
+        commands.forEach(command -> recordedKeys.put(key(command.userId(), command.challengeId(), SOURCE)));
+    }
+
+    /**
+     * Load the keys of every recorded score once the application is ready
+     * Runs in the background; deduplication falls back to database checks meanwhile
+     *
+     * @param event The application ready event
+     */
+    @EventListener
+    @Async
+    @Transactional(readOnly = true)
+    public void on(ApplicationReadyEvent event) {
+        long count = 0;
+        try (var keys = scoreRepository.streamChallengeKeys()) {
+            var iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                var row = iterator.next();
+                recordedKeys.put(key((String) row[0], (String) row[1], (ScoreSource) row[2]));
+                count++;
+            }
+            loaded = true;
+            logger.info("Challenge completion dedupe filter loaded with {} keys ({} bits)", count, recordedKeys.bitCount());
+        } catch (Exception e) {
+            logger.error("Error loading challenge completion dedupe filter after {} keys: {}", count, e.getMessage(), e);
+        }
+    }
+
+    private static String key(String userId, String challengeId, ScoreSource source) {
+        return userId + '\u0000' + challengeId + '\u0000' + source.name();
+    }
+}
@@ -0,0 +1,91 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Challenge Completed Event Deserializer
+ * Binds challenge.completed payloads straight into {@link RecordScoreFromChallengeCommand}.
+ *
+ * The record bytes are read with Jackson's streaming parser: no intermediate
+ * String of the payload and no JsonNode tree, only the field values the command
+ * keeps. Completions flagged alreadyCompleted and malformed payloads are
+ * logged and deserialized to null, which the listener skips; retrying them
+ * cannot succeed.
+ */
+public class ChallengeCompletedEventDeserializer implements Deserializer<RecordScoreFromChallengeCommand> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChallengeCompletedEventDeserializer.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CHALLENGE_TYPE = "CHALLENGE"; // Default type as it's not in the event
+
+    @Override
+    public RecordScoreFromChallengeCommand deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        String userId = null;
+        String challengeId = null;
+        Integer points = null;
+        boolean alreadyCompleted = false;
+        long executionTimeMs = 0L;
+        long solutionTimeSeconds = 0L;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Payload is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    // Nested values are not part of the event; a known field holding one stays unset
+                    parser.skipChildren();
+                    continue;
+                }
+                switch (field) {
+                    case "studentId" -> userId = parser.getValueAsString();
+                    case "challengeId" -> challengeId = parser.getValueAsString();
+                    case "experiencePointsEarned" -> points = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                    case "alreadyCompleted" -> alreadyCompleted = parser.getValueAsBoolean();
+                    // Time taken to run the tests / to complete the challenge, when available
+                    case "executionTimeMs" -> executionTimeMs = parser.getValueAsLong();
+                    case "solutionTimeSeconds" -> solutionTimeSeconds = parser.getValueAsLong();
+                    default -> {
+                        // Unknown scalar field
+                    }
+                }
+            }
+
+            // Skip score assignment if challenge was already completed
+            if (alreadyCompleted) {
+                logger.debug("⏭️ Challenge {} already completed by user {}. Skipping score assignment.",
+                        challengeId, userId);
+                return null;
+            }
+
+            logger.debug("📥 Parsed event: studentId={}, challengeId={}, points={}, execution time: {} ms, solution time: {} s",
+                    userId, challengeId, points, executionTimeMs, solutionTimeSeconds);
+
+            return new RecordScoreFromChallengeCommand(
+                    userId,
+                    challengeId,
+                    CHALLENGE_TYPE,
+                    points,
+                    executionTimeMs,
+                    solutionTimeSeconds
+            );
+        } catch (Exception e) {
+            String studentId = (userId != null) ? userId : "unknown";
+            logger.error("❌ Skipping invalid challenge completion event on topic={} for studentId={}: {}",
+                    topic, studentId, e.getMessage(), e);
+            return null;
+        }
+    }
+}
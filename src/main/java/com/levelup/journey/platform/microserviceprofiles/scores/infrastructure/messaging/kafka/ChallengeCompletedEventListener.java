@@ -1,103 +1,206 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.messaging.kafka;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoresFromChallengesCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoreIngestionPositionsQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreIngestionPosition;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreCommandService;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreQueryService;
+import com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.deduplication.ChallengeCompletionDeduplicator;
+import com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka.KeyOrderedBatchProcessor;
+import com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka.KeyOrderedProcessingException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Challenge Completed Event Listener
  * Listens to challenge.completed events from Kafka and records scores
+ *
+ * Payloads arrive already bound to commands by {@link ChallengeCompletedEventDeserializer};
+ * skipped or malformed records have a null value.
+ * Records are consumed in batches: every poll is parsed, split by student
+ * and each student's completions are recorded in order on their own virtual
+ * thread ({@link KeyOrderedBatchProcessor}), so a slow transaction only
+ * delays that student. Completions already recorded (redeliveries) are
+ * dropped before each group is written with one transaction. If the unique
+ * key still rejects the group (a completion recorded by another instance),
+ * it is filtered again against the database and written once more.
+ *
+ * In exactly-once mode the whole poll is written in one transaction together
+ * with the next offset of every partition it covers, and partitions are
+ * seeked to those stored offsets on assignment, so a crash can neither lose
+ * nor re-apply a completion. Per-student fan-out is not used in that mode.
+ * The mode is opt-in and runs on a container factory without Kafka auto-commit,
+ * so only the container commits offsets, once the poll's transaction has committed.
  */
 @Component
-public class ChallengeCompletedEventListener {
-    
+public class ChallengeCompletedEventListener implements ConsumerSeekAware {
+
     private static final Logger logger = LoggerFactory.getLogger(ChallengeCompletedEventListener.class);
     private final ScoreCommandService scoreCommandService;
-    private final ObjectMapper objectMapper;
+    private final ScoreQueryService scoreQueryService;
+    private final ChallengeCompletionDeduplicator challengeCompletionDeduplicator;
+    private final KeyOrderedBatchProcessor keyOrderedBatchProcessor;
+    private final boolean exactlyOnce;
+    private final String consumerGroup;
+    private final String topic;
 
     public ChallengeCompletedEventListener(
             ScoreCommandService scoreCommandService,
-            ObjectMapper objectMapper) {
+            ScoreQueryService scoreQueryService,
+            ChallengeCompletionDeduplicator challengeCompletionDeduplicator,
+            KeyOrderedBatchProcessor keyOrderedBatchProcessor,
+            @Value("${app.kafka.challenge-completed.exactly-once:false}") boolean exactlyOnce,
+            @Value("${spring.kafka.consumer.group-id:profile-service-group}") String consumerGroup,
+            @Value("${app.kafka.topics.challenge-completed:challenge.completed}") String topic) {
         this.scoreCommandService = scoreCommandService;
-        this.objectMapper = objectMapper;
+        this.scoreQueryService = scoreQueryService;
+        this.challengeCompletionDeduplicator = challengeCompletionDeduplicator;
+        this.keyOrderedBatchProcessor = keyOrderedBatchProcessor;
+        this.exactlyOnce = exactlyOnce;
+        this.consumerGroup = consumerGroup;
+        this.topic = topic;
+    }
+
+    /**
+     * Resume assigned partitions from the offsets stored with the scores
+     * Partitions without a stored offset keep the position committed to Kafka
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!exactlyOnce) {
+            return;
+        }
+
+        var nextOffsets = new HashMap<Integer, Long>();
+        scoreQueryService.handle(new GetScoreIngestionPositionsQuery(consumerGroup, topic))
+                .forEach(position -> nextOffsets.put(position.partition(), position.nextOffset()));
+
+        assignments.keySet().stream()
+                .filter(partition -> partition.topic().equals(topic) && nextOffsets.containsKey(partition.partition()))
+                .forEach(partition -> {
+                    long offset = nextOffsets.get(partition.partition());
+                    callback.seek(partition.topic(), partition.partition(), offset);
+                    logger.info("⏩ Resuming {}-{} from stored offset {}", partition.topic(), partition.partition(), offset);
+                });
     }
 
     @KafkaListener(
             topics = "${app.kafka.topics.challenge-completed:challenge.completed}",
-            groupId = "${spring.kafka.consumer.group-id:profile-service-group}"
+            groupId = "${spring.kafka.consumer.group-id:profile-service-group}",
+            containerFactory = "#{${app.kafka.challenge-completed.exactly-once:false} ? 'exactlyOnceBatchKafkaListenerContainerFactory' : 'batchKafkaListenerContainerFactory'}",
+            properties = {
+                    "max.poll.records=${app.kafka.challenge-completed.max-poll-records:500}",
+                    "value.deserializer=com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.messaging.kafka.ChallengeCompletedEventDeserializer"
+            }
     )
-    @SuppressWarnings("java:S1166") // Exception details logged separately
-    public void handleChallengeCompleted(String message) {
-        logger.info("📥 Received challenge completion message from Kafka");
-
-        String userId = null;
-        try {
-            // Parse JSON message directly without DTO
-            JsonNode eventData = objectMapper.readTree(message);
-
-            userId = eventData.get("studentId").asText();
-            String challengeId = eventData.get("challengeId").asText();
-            String challengeType = "CHALLENGE"; // Default type as it's not in the event
-            Integer points = eventData.get("experiencePointsEarned").asInt();
-
-            // Check if challenge was already completed
-            boolean alreadyCompleted = eventData.has("alreadyCompleted")
-                    && eventData.get("alreadyCompleted").asBoolean();
-
-            // Extract execution time if available (time taken to run the tests)
-            Long executionTimeMs = eventData.has("executionTimeMs")
-                    ? eventData.get("executionTimeMs").asLong()
-                    : 0L;
-
-            // Extract solution time if available (time taken to complete the challenge)
-            Long solutionTimeSeconds = eventData.has("solutionTimeSeconds")
-                    ? eventData.get("solutionTimeSeconds").asLong()
-                    : 0L;
-
-            logger.info("📥 Parsed event: studentId={}, challengeId={}, points={}, alreadyCompleted={}",
-                    userId, challengeId, points, alreadyCompleted);
-
-            // Skip score assignment if challenge was already completed
-            if (alreadyCompleted) {
-                logger.info("⏭️ Challenge {} already completed by user {}. Skipping score assignment.",
-                        challengeId, userId);
-                return;
+    public void handleChallengeCompleted(List<ConsumerRecord<String, RecordScoreFromChallengeCommand>> records) {
+        logger.info("📥 Received {} challenge completion messages from Kafka", records.size());
+
+        var completions = new ArrayList<ChallengeCompletion>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            var command = records.get(i).value();
+            if (command != null) {
+                completions.add(new ChallengeCompletion(i, command));
             }
+        }
 
-            logger.info("✅ Challenge completed by user {} with {} points, execution time: {} ms, solution time: {} s",
-                    userId, points, executionTimeMs, solutionTimeSeconds);
-
-            // Create command
-            var command = new RecordScoreFromChallengeCommand(
-                    userId,
-                    challengeId,
-                    challengeType,
-                    points,
-                    executionTimeMs,
-                    solutionTimeSeconds
-            );
-
-            // Execute command
-            var score = scoreCommandService.handle(command);
-
-            if (score.isPresent()) {
-                logger.info("Score recorded successfully for user: {} with points: {}, execution time: {} ms, solution time: {} s",
-                        userId, points, executionTimeMs, solutionTimeSeconds);
-            } else {
-                logger.warn("Failed to record score for user: {}", userId);
+        if (exactlyOnce) {
+            try {
+                record(completions, positionsOf(records));
+            } catch (RuntimeException e) {
+                throw failed(records, completions.isEmpty() ? 0 : completions.get(0).index(), e);
             }
+            return;
+        }
+
+        try {
+            keyOrderedBatchProcessor.process(completions, completion -> completion.command().userId(),
+                    group -> record(group, List.of()));
+        } catch (KeyOrderedProcessingException e) {
+            throw failed(records, completions.get(e.getFailedPosition()).index(), e.getCause());
+        }
+    }
+
+    /**
+     * Log a failed record and build the exception that makes the error handler
+     * commit the records before it and retry from it
+     *
+     * @param records The records of one poll
+     * @param index Position of the first record that was not recorded
+     * @param cause The failure
+     * @return The exception to throw from the listener
+     */
+    private BatchListenerFailedException failed(List<ConsumerRecord<String, RecordScoreFromChallengeCommand>> records, int index, Throwable cause) {
+        var failed = records.get(index);
+        logger.error("❌ Error recording challenge completions from partition={}, offset={}: {}",
+                failed.partition(), failed.offset(), cause.getMessage(), cause);
+        return new BatchListenerFailedException("Failed to process ChallengeCompleted batch", cause, index);
+    }
+
+    /**
+     * Next offset of every partition in a poll
+     *
+     * @param records The records of one poll
+     * @return One position per partition, past its last record
+     */
+    private List<ScoreIngestionPosition> positionsOf(List<ConsumerRecord<String, RecordScoreFromChallengeCommand>> records) {
+        var nextOffsets = new HashMap<TopicPartition, Long>();
+        for (ConsumerRecord<String, RecordScoreFromChallengeCommand> record : records) {
+            nextOffsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset() + 1, Math::max);
+        }
+        return nextOffsets.entrySet().stream()
+                .map(entry -> new ScoreIngestionPosition(
+                        consumerGroup, entry.getKey().topic(), entry.getKey().partition(), entry.getValue()))
+                .toList();
+    }
 
-        } catch (Exception e) {
-            String studentId = (userId != null) ? userId : "unknown";
-            logger.error("❌ Error processing challenge completion event for studentId={}: {}",
-                    studentId, e.getMessage(), e);
-            // Re-lanzar para que el error handler lo maneje con reintentos
-            throw new RuntimeException("Failed to process ChallengeCompleted event", e);
+    /**
+     * Record completions, in offset order, with one transaction
+     *
+     * @param completions Completions of one student, or of the whole poll in exactly-once mode
+     * @param positions Ingestion positions to store in the same transaction, empty if none
+     */
+    private void record(List<ChallengeCompletion> completions, List<ScoreIngestionPosition> positions) {
+        var received = completions.stream().map(ChallengeCompletion::command).toList();
+        var commands = challengeCompletionDeduplicator.retainNew(received);
+        if (commands.isEmpty() && positions.isEmpty()) {
+            return;
         }
+
+        int recordedCount;
+        try {
+            recordedCount = scoreCommandService.handle(new RecordScoresFromChallengesCommand(commands, positions));
+        } catch (DataIntegrityViolationException e) {
+            // The filter missed a completion recorded by another instance: the database decides
+            commands = challengeCompletionDeduplicator.retainUnrecorded(received);
+            logger.warn("⚠️ Challenge completions rejected by the unique key, retrying {} after a database check",
+                    commands.size());
+            if (commands.isEmpty() && positions.isEmpty()) {
+                return;
+            }
+            recordedCount = scoreCommandService.handle(new RecordScoresFromChallengesCommand(commands, positions));
+        }
+        challengeCompletionDeduplicator.markRecorded(commands);
+        logger.debug("✅ Recorded {} scores from {} challenge completion messages", recordedCount, completions.size());
+    }
+
+    /**
+     * Parsed completion and the position of its record in the poll
+     */
+    private record ChallengeCompletion(int index, RecordScoreFromChallengeCommand command) {
     }
 }
@@ -0,0 +1,55 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.ScoreIngestionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Score Ingestion Checkpoint Repository
+ * JPA repository for ScoreIngestionCheckpoint aggregate persistence
+ */
+@Repository
+public interface ScoreIngestionCheckpointRepository extends JpaRepository<ScoreIngestionCheckpoint, UUID> {
+
+    /**
+     * Get the checkpoints of a consumer group on a topic
+     *
+     * @param consumerGroup Kafka consumer group
+     * @param topic Topic name
+     * @return One checkpoint per partition ingested so far
+     */
+    List<ScoreIngestionCheckpoint> findByConsumerGroupAndTopic(String consumerGroup, String topic);
+
+    /**
+     * Store the next offsets of several partitions in one statement
+     * Arrays are parallel and must hold each (consumer group, topic, partition) once
+     * A stored offset never moves backwards, so a late batch from a previous owner of the partition cannot rewind it
+     *
+     * @param consumerGroups Kafka consumer groups
+     * @param topics Topic names
+     * @param partitions Partition numbers
+     * @param nextOffsets Offset of the next record to process per partition
+     * @return Number of rows written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO score_ingestion_checkpoints (id, consumer_group, topic, partition_number, next_offset, created_at, updated_at)
+        SELECT gen_random_uuid(), batch.consumer_group, batch.topic, batch.partition_number, batch.next_offset, now(), now()
+        FROM unnest(CAST(:consumerGroups AS varchar[]), CAST(:topics AS varchar[]),
+                    CAST(:partitions AS integer[]), CAST(:nextOffsets AS bigint[]))
+             AS batch(consumer_group, topic, partition_number, next_offset)
+        ON CONFLICT (consumer_group, topic, partition_number) DO UPDATE
+        SET next_offset = GREATEST(score_ingestion_checkpoints.next_offset, EXCLUDED.next_offset),
+            updated_at = now()
+        """, nativeQuery = true)
+    int upsertNextOffsets(@Param("consumerGroups") String[] consumerGroups,
+                          @Param("topics") String[] topics,
+                          @Param("partitions") Integer[] partitions,
+                          @Param("nextOffsets") Long[] nextOffsets);
+}
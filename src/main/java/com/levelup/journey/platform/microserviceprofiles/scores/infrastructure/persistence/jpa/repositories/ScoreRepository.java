@@ -1,14 +1,21 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories;
 
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreSource;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Score Repository
@@ -24,14 +31,6 @@ public interface ScoreRepository extends JpaRepository<Score, UUID> {
      */
     List<Score> findByUserId(ScoreUserId userId);
 
-    /**
-     * Calculate total points for a user
-     * @param userId The user ID string
-     * @return Total points sum
-     */
-    @Query("SELECT COALESCE(SUM(s.points.value), 0) FROM Score s WHERE s.userId.userId = :userId")
-    Integer sumPointsByUserId(@Param("userId") String userId);
-
     /**
      * Check if user has any scores
      * @param userId The user ID
@@ -40,17 +39,117 @@ public interface ScoreRepository extends JpaRepository<Score, UUID> {
     boolean existsByUserId(ScoreUserId userId);
 
     /**
-     * Get all user IDs and their total points
-     * @return List of Object arrays containing [userId, totalPoints]
+     * Find the first scores in listing order (created at ASC, id ASC)
+     * @param pageable Page size (page number must be 0)
+     * @return List of scores
+     */
+    @Query("SELECT s FROM Score s ORDER BY s.createdAt ASC, s.id ASC")
+    List<Score> findFirstScores(Pageable pageable);
+
+    /**
+     * Find the scores that follow a keyset position, in listing order
+     * Seeks on the (created_at, id) index, so a deep page costs the same as the first one
+     * @param createdAt Creation time of the last score already returned
+     * @param id ID of the last score already returned
+     * @param pageable Page size (page number must be 0)
+     * @return List of following scores
+     */
+    @Query("""
+        SELECT s FROM Score s
+        WHERE s.createdAt > :createdAt
+        OR (s.createdAt = :createdAt AND s.id > :id)
+        ORDER BY s.createdAt ASC, s.id ASC
+        """)
+    List<Score> findScoresAfter(@Param("createdAt") Date createdAt,
+                                @Param("id") UUID id,
+                                Pageable pageable);
+
+    /**
+     * Find the first scores of a user in listing order (created at ASC, id ASC)
+     * @param userId The user ID
+     * @param pageable Page size (page number must be 0)
+     * @return List of scores for the user
+     */
+    @Query("SELECT s FROM Score s WHERE s.userId = :userId ORDER BY s.createdAt ASC, s.id ASC")
+    List<Score> findFirstScoresByUserId(@Param("userId") ScoreUserId userId, Pageable pageable);
+
+    /**
+     * Find the scores of a user that follow a keyset position, in listing order
+     * Seeks on the (user_id, created_at, id) index
+     * @param userId The user ID
+     * @param createdAt Creation time of the last score already returned
+     * @param id ID of the last score already returned
+     * @param pageable Page size (page number must be 0)
+     * @return List of following scores for the user
+     */
+    @Query("""
+        SELECT s FROM Score s
+        WHERE s.userId = :userId
+        AND (s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.id > :id))
+        ORDER BY s.createdAt ASC, s.id ASC
+        """)
+    List<Score> findScoresByUserIdAfter(@Param("userId") ScoreUserId userId,
+                                        @Param("createdAt") Date createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+    /**
+     * Stream every score in listing order over a forward-only cursor
+     * Rows are fetched 1000 at a time and loaded read-only; must be consumed inside a transaction and closed
+     * @return Stream of scores
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT s FROM Score s ORDER BY s.createdAt ASC, s.id ASC")
+    Stream<Score> streamAllScores();
+
+    /**
+     * Stream every score of a user in listing order over a forward-only cursor
+     * Rows are fetched 1000 at a time and loaded read-only; must be consumed inside a transaction and closed
+     * @param userId The user ID
+     * @return Stream of scores for the user
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT s FROM Score s WHERE s.userId = :userId ORDER BY s.createdAt ASC, s.id ASC")
+    Stream<Score> streamScoresByUserId(@Param("userId") ScoreUserId userId);
+
+    /**
+     * Get the points and creation time of every score created since a given time
+     * @param since Lower bound (inclusive) of the creation time
+     * @return List of Object arrays containing [userId, points, createdAt]
+     */
+    @Query("SELECT s.userId.userId, s.points.value, s.createdAt FROM Score s WHERE s.createdAt >= :since")
+    List<Object[]> findPointsCreatedSince(@Param("since") Date since);
+
+    /**
+     * Get the (userId, challengeId) pairs already recorded for a source
+     * Matches every combination of the given users and challenges; callers keep the exact pairs
+     * @param source Score source
+     * @param userIds User ID strings
+     * @param challengeIds Challenge ID strings
+     * @return List of Object arrays containing [userId, challengeId]
      */
-    @Query("SELECT s.userId.userId, SUM(s.points.value) FROM Score s GROUP BY s.userId.userId")
-    List<Object[]> findAllUserTotalPoints();
+    @Query("""
+        SELECT s.userId.userId, s.challengeId.challengeId FROM Score s
+        WHERE s.source = :source
+          AND s.userId.userId IN :userIds
+          AND s.challengeId.challengeId IN :challengeIds
+        """)
+    List<Object[]> findChallengeKeys(@Param("source") ScoreSource source,
+                                     @Param("userIds") Collection<String> userIds,
+                                     @Param("challengeIds") Collection<String> challengeIds);
 
     /**
-     * Get user IDs with total points greater than or equal to minimum
-     * @param minPoints Minimum points threshold
-     * @return List of user IDs meeting the criteria
+     * Stream every recorded (userId, challengeId, source) key
+     * Must be consumed inside a transaction and closed
+     * @return Stream of Object arrays containing [userId, challengeId, source]
      */
-    @Query("SELECT s.userId.userId FROM Score s GROUP BY s.userId.userId HAVING SUM(s.points.value) >= :minPoints")
-    List<String> findUserIdsWithMinimumPoints(@Param("minPoints") Integer minPoints);
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "10000"))
+    @Query("SELECT s.userId.userId, s.challengeId.challengeId, s.source FROM Score s WHERE s.challengeId IS NOT NULL")
+    Stream<Object[]> streamChallengeKeys();
 }
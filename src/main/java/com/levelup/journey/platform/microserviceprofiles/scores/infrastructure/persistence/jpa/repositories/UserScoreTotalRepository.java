@@ -0,0 +1,124 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.UserScoreTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * User Score Total Repository
+ * JPA repository for UserScoreTotal aggregate persistence
+ */
+@Repository
+public interface UserScoreTotalRepository extends JpaRepository<UserScoreTotal, UUID> {
+
+    /**
+     * Add points to a user's running total, creating the row on the first score
+     * Atomic in the database: concurrent scores of the same user serialize on the row lock
+     *
+     * @param userId The user ID string
+     * @param points Points to add
+     * @return Number of rows written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_score_totals (id, user_id, total_points, score_count, created_at, updated_at)
+        VALUES (gen_random_uuid(), :userId, :points, 1, now(), now())
+        ON CONFLICT (user_id) DO UPDATE
+        SET total_points = user_score_totals.total_points + EXCLUDED.total_points,
+            score_count = user_score_totals.score_count + 1,
+            updated_at = now()
+        """, nativeQuery = true)
+    int incrementTotalPoints(@Param("userId") String userId, @Param("points") Integer points);
+
+    /**
+     * Add points to the running totals of several users in one statement
+     * Arrays are parallel and must hold each user once; sorted user IDs keep the row lock order stable
+     *
+     * @param userIds User ID strings
+     * @param points Points to add per user
+     * @param scoreCounts Number of scores per user
+     * @return Number of rows written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_score_totals (id, user_id, total_points, score_count, created_at, updated_at)
+        SELECT gen_random_uuid(), batch.user_id, batch.points, batch.score_count, now(), now()
+        FROM unnest(CAST(:userIds AS varchar[]), CAST(:points AS integer[]), CAST(:scoreCounts AS integer[]))
+             AS batch(user_id, points, score_count)
+        ON CONFLICT (user_id) DO UPDATE
+        SET total_points = user_score_totals.total_points + EXCLUDED.total_points,
+            score_count = user_score_totals.score_count + EXCLUDED.score_count,
+            updated_at = now()
+        """, nativeQuery = true)
+    int incrementTotalPoints(@Param("userIds") String[] userIds,
+                             @Param("points") Integer[] points,
+                             @Param("scoreCounts") Integer[] scoreCounts);
+
+    /**
+     * Get the total points of a set of users
+     * @param userIds User ID strings
+     * @return List of Object arrays containing [userId, totalPoints]
+     */
+    @Query("SELECT t.userId.userId, t.totalPoints FROM UserScoreTotal t WHERE t.userId.userId IN :userIds")
+    List<Object[]> findTotalPointsByUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * Get the total points of a user
+     * @param userId The user ID string
+     * @return Total points, empty if the user has no scores
+     */
+    @Query("SELECT t.totalPoints FROM UserScoreTotal t WHERE t.userId.userId = :userId")
+    Optional<Integer> findTotalPointsByUserId(@Param("userId") String userId);
+
+    /**
+     * Get all user IDs and their total points
+     * @return List of Object arrays containing [userId, totalPoints]
+     */
+    @Query("SELECT t.userId.userId, t.totalPoints FROM UserScoreTotal t")
+    List<Object[]> findAllUserTotalPoints();
+
+    /**
+     * Get user IDs with total points greater than or equal to minimum
+     * @param minPoints Minimum points threshold
+     * @return List of user IDs meeting the criteria
+     */
+    @Query("SELECT t.userId.userId FROM UserScoreTotal t WHERE t.totalPoints >= :minPoints")
+    List<String> findUserIdsWithMinimumPoints(@Param("minPoints") Integer minPoints);
+
+    /**
+     * Block concurrent increments until the current transaction ends
+     * Reads stay allowed, so totals remain available during a rebuild
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE user_score_totals IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Remove every running total
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_score_totals", nativeQuery = true)
+    int deleteAllTotals();
+
+    /**
+     * Recompute every running total from the score history
+     * @return Number of users written
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_score_totals (id, user_id, total_points, score_count, created_at, updated_at)
+        SELECT gen_random_uuid(), user_id, SUM(points), COUNT(*), now(), now()
+        FROM scores
+        GROUP BY user_id
+        """, nativeQuery = true)
+    int insertTotalsFromScores();
+}
@@ -1,5 +1,6 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.interfaces.acl;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -40,4 +41,13 @@ public interface ScoresContextFacade {
      * @return List of user IDs meeting the criteria
      */
     List<String> getUsersWithMinimumPoints(Integer minPoints);
+
+    /**
+     * Get the points earned per user per UTC day since a given day
+     * Used to build time-windowed leaderboards
+     *
+     * @param since First UTC day (inclusive)
+     * @return Map of userId to points per day
+     */
+    Map<String, Map<LocalDate, Integer>> getDailyPointsByUserSince(LocalDate since);
 }
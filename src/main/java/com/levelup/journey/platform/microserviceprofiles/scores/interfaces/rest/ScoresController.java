@@ -1,21 +1,40 @@
 package com.levelup.journey.platform.microserviceprofiles.scores.interfaces.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.Score;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RebuildUserScoreTotalsCommand;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdPageQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetScoresByUserIdQuery;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.GetTotalPointsByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamAllScoresQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.queries.StreamScoresByUserIdQuery;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreCursor;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.valueobjects.ScoreUserId;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreCommandService;
 import com.levelup.journey.platform.microserviceprofiles.scores.domain.services.ScoreQueryService;
+import com.levelup.journey.platform.microserviceprofiles.scores.interfaces.rest.resources.ScorePageResource;
 import com.levelup.journey.platform.microserviceprofiles.scores.interfaces.rest.resources.ScoreResource;
 import com.levelup.journey.platform.microserviceprofiles.scores.interfaces.rest.transform.ScoreResourceFromEntityAssembler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Scores Controller
@@ -27,9 +46,15 @@ import java.util.List;
 public class ScoresController {
     
     private final ScoreQueryService scoreQueryService;
+    private final ScoreCommandService scoreCommandService;
+    private final ObjectMapper objectMapper;
 
-    public ScoresController(ScoreQueryService scoreQueryService) {
+    public ScoresController(ScoreQueryService scoreQueryService,
+                            ScoreCommandService scoreCommandService,
+                            ObjectMapper objectMapper) {
         this.scoreQueryService = scoreQueryService;
+        this.scoreCommandService = scoreCommandService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -38,7 +63,7 @@ public class ScoresController {
      * @return List of scores for the user
      */
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Get scores by user ID", description = "Retrieves all score records for a specific user")
+    @Operation(summary = "Get scores by user ID", description = "Retrieves all score records for a specific user in one response. Prefer /user/{userId}/page or /user/{userId}/stream for large histories")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Scores found"),
             @ApiResponse(responseCode = "404", description = "No scores found for the user")
@@ -58,13 +83,69 @@ public class ScoresController {
         return ResponseEntity.ok(scoreResources);
     }
 
+    /**
+     * Get a page of scores for a specific user
+     * Uses keyset pagination: pass the returned nextCursor to get the following page
+     * @param userId The user ID
+     * @param limit Page size
+     * @param cursor Continuation token returned by the previous page
+     * @return Page of scores for the user
+     */
+    @GetMapping("/user/{userId}/page")
+    @Operation(summary = "Get scores page by user ID", description = "Retrieves a page of a user's score records in creation order. Pass the returned nextCursor to get the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scores page retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<ScorePageResource> getScoresPageByUserId(
+            @PathVariable String userId,
+            @Parameter(description = "Number of scores to return (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") Integer limit,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor) {
+        List<Score> scores;
+        try {
+            var scoreCursor = cursor != null ? ScoreCursor.decode(cursor) : null;
+            scores = scoreQueryService.handle(new GetScoresByUserIdPageQuery(new ScoreUserId(userId), limit, scoreCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(toPage(scores, limit));
+    }
+
+    /**
+     * Stream all scores for a specific user as NDJSON
+     * @param userId The user ID
+     * @return One JSON score per line, written as rows are read
+     */
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream scores by user ID", description = "Streams every score record of a user as newline-delimited JSON, in creation order, straight from a database cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scores streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ScoreResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid user ID")
+    })
+    public ResponseEntity<StreamingResponseBody> streamScoresByUserId(@PathVariable String userId) {
+        StreamScoresByUserIdQuery query;
+        try {
+            query = new StreamScoresByUserIdQuery(new ScoreUserId(userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> writeNdjson(output, consumer -> scoreQueryService.handle(query, consumer)));
+    }
+
     /**
      * Get total points for a specific user
      * @param userId The user ID
      * @return Total points
      */
     @GetMapping("/user/{userId}/total")
-    @Operation(summary = "Get total points by user ID", description = "Calculates total points accumulated by a user")
+    @Operation(summary = "Get total points by user ID", description = "Retrieves total points accumulated by a user from the running totals")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Total points calculated"),
             @ApiResponse(responseCode = "404", description = "User has no scores")
@@ -81,7 +162,7 @@ public class ScoresController {
      * @return List of all scores
      */
     @GetMapping
-    @Operation(summary = "Get all scores", description = "Retrieves all score records in the system")
+    @Operation(summary = "Get all scores", description = "Retrieves all score records in the system in one response. Prefer /page or /stream: this loads every score into memory")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Scores found"),
             @ApiResponse(responseCode = "404", description = "No scores found")
@@ -99,4 +180,107 @@ public class ScoresController {
         
         return ResponseEntity.ok(scoreResources);
     }
+
+    /**
+     * Get a page of scores in the system
+     * Uses keyset pagination: pass the returned nextCursor to get the following page
+     * @param limit Page size
+     * @param cursor Continuation token returned by the previous page
+     * @return Page of scores
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get scores page", description = "Retrieves a page of score records in creation order. Pass the returned nextCursor to get the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scores page retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<ScorePageResource> getScoresPage(
+            @Parameter(description = "Number of scores to return (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") Integer limit,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor) {
+        List<Score> scores;
+        try {
+            var scoreCursor = cursor != null ? ScoreCursor.decode(cursor) : null;
+            scores = scoreQueryService.handle(new GetAllScoresPageQuery(limit, scoreCursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(toPage(scores, limit));
+    }
+
+    /**
+     * Stream all scores in the system as NDJSON
+     * @return One JSON score per line, written as rows are read
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all scores", description = "Streams every score record as newline-delimited JSON, in creation order, straight from a database cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scores streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ScoreResource.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllScores() {
+        var query = new StreamAllScoresQuery();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> writeNdjson(output, consumer -> scoreQueryService.handle(query, consumer)));
+    }
+
+    /**
+     * Rebuild the running totals from the score history (Admin operation)
+     * @return Number of users with a total
+     */
+    @PostMapping("/totals/rebuild")
+    @Operation(summary = "Rebuild score totals", description = "Recomputes every user's running total from the score history (Admin repair operation)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Score totals rebuilt successfully")
+    })
+    public ResponseEntity<String> rebuildScoreTotals() {
+        var rebuiltCount = scoreCommandService.handle(new RebuildUserScoreTotalsCommand());
+
+        return ResponseEntity.ok(String.format("Score totals rebuilt for %d users", rebuiltCount));
+    }
+
+    /**
+     * Build a page resource; a full page means more scores may follow
+     * @param scores Scores of the page
+     * @param limit Requested page size
+     * @return The page with its continuation token
+     */
+    private ScorePageResource toPage(List<Score> scores, int limit) {
+        var resources = scores.stream()
+                .map(ScoreResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        var nextCursor = scores.size() == limit ? scores.get(scores.size() - 1).toCursor().encode() : null;
+        return new ScorePageResource(resources, nextCursor);
+    }
+
+    /**
+     * Write scores as newline-delimited JSON while they are read
+     * The generator buffers a few KB and hands them to the response, so neither the rows
+     * nor the body are ever held in memory as a whole
+     * @param output The response body
+     * @param source Runs the stream query with the given consumer
+     * @throws IOException if the client disconnects
+     */
+    private void writeNdjson(OutputStream output, Consumer<Consumer<Score>> source) throws IOException {
+        // No flush per value: rows reach the client as the response buffer fills
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        var generator = objectMapper.getFactory().createGenerator(output);
+        try {
+            source.accept(score -> {
+                try {
+                    writer.writeValue(generator, ScoreResourceFromEntityAssembler.toResourceFromEntity(score));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // The response stream itself is closed by the container
+        generator.flush();
+    }
 }
@@ -0,0 +1,20 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.interfaces.rest.resources;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Score Page Resource
+ * One keyset page of score records with its continuation token
+ */
+@Schema(description = "Page of score records with continuation token")
+public record ScorePageResource(
+        @Schema(description = "Score records in creation order")
+        List<ScoreResource> scores,
+
+        @Schema(description = "Opaque token to request the next page, null when there are no more scores",
+                example = "MjAyNS0wMS0wMVQwMDowMDowMFp8MTIzZTQ1NjctZTg5Yi0xMmQzLWE0NTYtNDI2NjE0MTc0MDAw")
+        String nextCursor
+) {
+}
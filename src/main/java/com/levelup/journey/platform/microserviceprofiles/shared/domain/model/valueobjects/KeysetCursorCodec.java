@@ -0,0 +1,63 @@
+package com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Keyset Cursor Codec
+ * Encodes the sort key values of the last row of a page as an opaque URL-safe token and back.
+ *
+ * Values are joined with '|' and Base64url-encoded without padding. Only the last
+ * value may contain the separator, so free-form keys (e.g. user IDs) go last.
+ */
+public final class KeysetCursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursorCodec() {
+    }
+
+    /**
+     * Encode key values as an opaque continuation token
+     *
+     * @param values Key values in sort order; rendered with toString()
+     * @return URL-safe token
+     */
+    public static String encode(Object... values) {
+        var raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a continuation token produced by {@link #encode(Object...)}
+     *
+     * @param token The continuation token
+     * @param valueCount Number of key values the token must hold
+     * @param factory Builds the cursor from the raw values; may throw IllegalArgumentException or DateTimeParseException
+     * @return The decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static <T> T decode(String token, int valueCount, Function<String[], T> factory) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor token cannot be null or empty");
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var values = raw.split("\\" + SEPARATOR, valueCount);
+            if (values.length != valueCount) {
+                throw new IllegalArgumentException("Invalid cursor token");
+            }
+            return factory.apply(values);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor token", e);
+        }
+    }
+}
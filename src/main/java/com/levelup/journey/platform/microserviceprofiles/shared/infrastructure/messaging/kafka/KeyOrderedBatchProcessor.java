@@ -0,0 +1,121 @@
+package com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Key Ordered Batch Processor
+ * Fans the records of one Kafka poll out to virtual threads, one task per message key.
+ *
+ * Items sharing a key are handed to the handler together and in their original
+ * order, so a user's events are never reordered; different keys run in parallel,
+ * bounded by max-concurrency (keep it below the JDBC pool size). The call returns
+ * once every group is done, so the container only commits fully processed polls.
+ * When groups fail, the lowest failed position is reported and offsets can be
+ * committed up to it; groups after it are redelivered, so handlers must be idempotent.
+ */
+@Component
+public class KeyOrderedBatchProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyOrderedBatchProcessor.class);
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public KeyOrderedBatchProcessor(
+            @Value("${app.kafka.key-ordered.enabled:true}") boolean enabled,
+            @Value("${app.kafka.key-ordered.max-concurrency:8}") int maxConcurrency) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
+    /**
+     * Process a batch grouped by key
+     * When disabled (or all items share one key) the whole batch is handed to the handler as one group
+     *
+     * @param items Items in offset order
+     * @param keyOf Extracts the ordering key of an item (e.g. userId)
+     * @param handler Processes one group of items with the same key, in order
+     * @throws KeyOrderedProcessingException if any group failed
+     */
+    public <T> void process(List<T> items, Function<T, String> keyOf, Consumer<List<T>> handler) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        var groups = new LinkedHashMap<String, List<Integer>>();
+        if (enabled) {
+            for (int i = 0; i < items.size(); i++) {
+                groups.computeIfAbsent(keyOf.apply(items.get(i)), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        if (groups.size() <= 1) {
+            try {
+                handler.accept(items);
+            } catch (RuntimeException e) {
+                throw new KeyOrderedProcessingException(0, e);
+            }
+            return;
+        }
+
+        var positions = new ArrayList<List<Integer>>(groups.values());
+        var futures = new ArrayList<Future<?>>(positions.size());
+        for (List<Integer> group : positions) {
+            var groupItems = group.stream().map(items::get).toList();
+            futures.add(executor.submit(() -> runGroup(groupItems, handler)));
+        }
+
+        int lowestFailed = -1;
+        Throwable failure = null;
+        for (int g = 0; g < futures.size(); g++) {
+            try {
+                futures.get(g).get();
+            } catch (ExecutionException e) {
+                int first = positions.get(g).get(0);
+                if (lowestFailed < 0 || first < lowestFailed) {
+                    lowestFailed = first;
+                    failure = e.getCause();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new KeyOrderedProcessingException(0, e);
+            }
+        }
+
+        if (lowestFailed >= 0) {
+            throw new KeyOrderedProcessingException(lowestFailed, failure);
+        }
+        logger.debug("Processed {} items in {} key groups", items.size(), positions.size());
+    }
+
+    private <T> void runGroup(List<T> groupItems, Consumer<List<T>> handler) {
+        permits.acquireUninterruptibly();
+        try {
+            handler.accept(groupItems);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
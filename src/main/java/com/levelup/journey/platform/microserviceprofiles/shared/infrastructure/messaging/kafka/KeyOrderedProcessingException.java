@@ -0,0 +1,21 @@
+package com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka;
+
+/**
+ * Key Ordered Processing Exception
+ * Thrown by {@link KeyOrderedBatchProcessor} when at least one key group failed.
+ * Carries the position of the first item of the lowest failed group: every item
+ * before it belongs to a group that completed, so offsets are safe to commit up to it.
+ */
+public class KeyOrderedProcessingException extends RuntimeException {
+
+    private final int failedPosition;
+
+    public KeyOrderedProcessingException(int failedPosition, Throwable cause) {
+        super("Key group starting at position " + failedPosition + " failed: " + cause.getMessage(), cause);
+        this.failedPosition = failedPosition;
+    }
+
+    public int getFailedPosition() {
+        return failedPosition;
+    }
+}
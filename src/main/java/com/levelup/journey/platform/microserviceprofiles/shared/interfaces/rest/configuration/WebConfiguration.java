@@ -23,6 +23,9 @@ public class WebConfiguration implements WebMvcConfigurer {
     @Value("${app.cors.allowed-headers}")
     private String[] allowedHeaders;
 
+    @Value("${app.cors.exposed-headers:}")
+    private String[] exposedHeaders;
+
     @Value("${app.cors.allow-credentials}")
     private boolean allowCredentials;
 
@@ -40,6 +43,7 @@ public class WebConfiguration implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins)
                 .allowedMethods(allowedMethods)
                 .allowedHeaders(allowedHeaders)
+                .exposedHeaders(exposedHeaders)
                 .allowCredentials(allowCredentials)
                 .maxAge(maxAge);
     }
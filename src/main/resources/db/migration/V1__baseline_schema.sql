@@ -0,0 +1,65 @@
+-- ===================================================
+-- Baseline schema
+-- Mirrors the tables previously created by ddl-auto: update, so existing
+-- databases are adopted through baseline-on-migrate and new ones start here.
+-- ===================================================
+
+CREATE TABLE IF NOT EXISTS profile (
+    id            uuid         NOT NULL PRIMARY KEY,
+    created_at    timestamp(6) NOT NULL,
+    updated_at    timestamp(6) NOT NULL,
+    user_id       varchar(255) UNIQUE,
+    first_name    varchar(255),
+    last_name     varchar(255),
+    username      varchar(255),
+    profile_url   varchar(255),
+    provider      varchar(255),
+    student_cycle varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS scores (
+    id                    uuid         NOT NULL PRIMARY KEY,
+    created_at            timestamp(6) NOT NULL,
+    updated_at            timestamp(6) NOT NULL,
+    user_id               varchar(255) NOT NULL,
+    points                integer      NOT NULL,
+    source                varchar(50)  NOT NULL,
+    challenge_id          varchar(100),
+    challenge_type        varchar(50),
+    execution_time_ms     bigint,
+    solution_time_seconds bigint
+);
+
+CREATE TABLE IF NOT EXISTS ranks (
+    id             uuid         NOT NULL PRIMARY KEY,
+    rank_name      varchar(20)  NOT NULL UNIQUE,
+    minimum_points integer      NOT NULL,
+    created_at     timestamp(6) NOT NULL,
+    updated_at     timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS competitive_profiles (
+    id           uuid         NOT NULL PRIMARY KEY,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6) NOT NULL,
+    user_id      varchar(255) NOT NULL UNIQUE,
+    total_points integer      NOT NULL,
+    rank_id      uuid         NOT NULL REFERENCES ranks (id)
+);
+
+CREATE TABLE IF NOT EXISTS suggestions (
+    id          uuid         NOT NULL PRIMARY KEY,
+    created_at  timestamp(6) NOT NULL,
+    updated_at  timestamp(6) NOT NULL,
+    comment     text         NOT NULL,
+    is_resolved boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS leaderboard_entries (
+    id                   uuid         NOT NULL PRIMARY KEY,
+    created_at           timestamp(6) NOT NULL,
+    updated_at           timestamp(6) NOT NULL,
+    user_id              varchar(255) NOT NULL UNIQUE,
+    total_points         integer      NOT NULL,
+    leaderboard_position integer      NOT NULL
+);
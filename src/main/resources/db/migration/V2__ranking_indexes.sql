@@ -0,0 +1,38 @@
+-- ===================================================
+-- Ranking indexes
+-- One index per hot ranking query, so none of them falls back to a
+-- sequential scan plus sort once the tables grow.
+-- Indexes are built CONCURRENTLY so deploys never block writes on the live
+-- tables; this needs a non-transactional migration (see the .sql.conf file).
+-- ===================================================
+
+-- Replication version of each leaderboard entry (added after the baseline)
+ALTER TABLE leaderboard_entries ADD COLUMN IF NOT EXISTS points_version bigint;
+
+-- Leaderboard ordering: top-N, keyset pages and full position recalculation
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leaderboard_entries_ranking
+    ON leaderboard_entries (total_points DESC, created_at ASC, id ASC);
+
+-- Position range reads (top 500, around-user windows)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leaderboard_entries_position
+    ON leaderboard_entries (leaderboard_position);
+
+-- Rank index catch-up after a warm restart
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leaderboard_entries_updated_at
+    ON leaderboard_entries (updated_at);
+
+-- Per-user totals (SUM by user) and GROUP BY rebuilds answered from the index alone
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_scores_user_id_points
+    ON scores (user_id) INCLUDE (points);
+
+-- Weekly and monthly windows (scores created since a given instant)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_scores_created_at
+    ON scores (created_at) INCLUDE (user_id, points);
+
+-- Competitive profiles by rank, ordered by points
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_competitive_profiles_rank_points
+    ON competitive_profiles (rank_id, total_points DESC);
+
+-- Profile lookups by username
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_profile_username
+    ON profile (username);
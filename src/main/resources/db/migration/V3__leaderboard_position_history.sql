@@ -0,0 +1,20 @@
+-- ===================================================
+-- Daily leaderboard position history
+-- One row per user and month; the daily samples are delta-encoded varints
+-- in "samples", so a year of history is at most 12 small rows per user.
+-- ===================================================
+
+CREATE TABLE IF NOT EXISTS leaderboard_position_history (
+    id            uuid         NOT NULL PRIMARY KEY,
+    created_at    timestamp(6) NOT NULL,
+    updated_at    timestamp(6) NOT NULL,
+    user_id       varchar(255) NOT NULL,
+    month_start   date         NOT NULL,
+    sample_count  integer      NOT NULL,
+    last_day      integer      NOT NULL,
+    last_position integer      NOT NULL,
+    last_points   integer      NOT NULL,
+    samples       bytea        NOT NULL,
+    -- Also the index behind the per-user range scan of the history endpoint
+    CONSTRAINT uk_leaderboard_position_history_user_month UNIQUE (user_id, month_start)
+);
@@ -0,0 +1,21 @@
+-- ===================================================
+-- Running score totals
+-- One row per user, incremented by an UPSERT in the same transaction as
+-- every score insert; replaces SUM(points) over the score history.
+-- ===================================================
+
+CREATE TABLE IF NOT EXISTS user_score_totals (
+    id           uuid         NOT NULL PRIMARY KEY,
+    created_at   timestamp(6) NOT NULL,
+    updated_at   timestamp(6) NOT NULL,
+    user_id      varchar(255) NOT NULL UNIQUE,
+    total_points integer      NOT NULL,
+    score_count  integer      NOT NULL
+);
+
+-- Backfill from the existing score history
+INSERT INTO user_score_totals (id, user_id, total_points, score_count, created_at, updated_at)
+SELECT gen_random_uuid(), user_id, SUM(points), COUNT(*), now(), now()
+FROM scores
+GROUP BY user_id
+ON CONFLICT (user_id) DO NOTHING;
@@ -0,0 +1,69 @@
+-- ===================================================
+-- Score dedupe key
+-- A challenge completion is recorded once per (user_id, challenge_id, source).
+-- Duplicates left by redelivered Kafka records are removed (keeping the
+-- oldest row) and the running totals are recomputed before adding the key.
+-- Leaderboard and competitive totals are then realigned with the rebuilt
+-- totals, and leaderboard positions are recalculated.
+-- ===================================================
+
+DELETE FROM scores s
+USING scores kept
+WHERE s.challenge_id IS NOT NULL
+  AND kept.user_id = s.user_id
+  AND kept.challenge_id = s.challenge_id
+  AND kept.source = s.source
+  AND (kept.created_at, kept.id) < (s.created_at, s.id);
+
+DELETE FROM user_score_totals;
+
+INSERT INTO user_score_totals (id, user_id, total_points, score_count, created_at, updated_at)
+SELECT gen_random_uuid(), user_id, SUM(points), COUNT(*), now(), now()
+FROM scores
+GROUP BY user_id;
+
+ALTER TABLE scores
+    ADD CONSTRAINT uk_scores_user_challenge_source UNIQUE (user_id, challenge_id, source);
+
+-- Bumping points_version and updated_at makes running instances discard their stale
+-- replicated entries and the rank index checkpoint catch up on the corrected rows
+UPDATE leaderboard_entries le
+SET total_points = ust.total_points,
+    points_version = COALESCE(le.points_version, 0) + 1,
+    updated_at = now()
+FROM user_score_totals ust
+WHERE ust.user_id = le.user_id
+  AND le.total_points <> ust.total_points;
+
+-- TOP500 is assigned by leaderboard position, not points, so those profiles keep their rank
+UPDATE competitive_profiles cp
+SET total_points = ust.total_points,
+    rank_id = CASE
+        WHEN current_rank.rank_name = 'TOP500' THEN cp.rank_id
+        ELSE COALESCE((
+            SELECT r.id
+            FROM ranks r
+            WHERE r.minimum_points <= ust.total_points
+              AND r.rank_name <> 'TOP500'
+            ORDER BY r.minimum_points DESC
+            LIMIT 1
+        ), cp.rank_id)
+    END,
+    updated_at = now()
+FROM user_score_totals ust, ranks current_rank
+WHERE ust.user_id = cp.user_id
+  AND current_rank.id = cp.rank_id
+  AND cp.total_points <> ust.total_points;
+
+UPDATE leaderboard_entries le
+SET leaderboard_position = ranked.new_position,
+    updated_at = now()
+FROM (
+    SELECT id,
+           ROW_NUMBER() OVER (
+               ORDER BY total_points DESC, created_at ASC, user_id COLLATE "C" ASC
+           ) AS new_position
+    FROM leaderboard_entries
+) ranked
+WHERE le.id = ranked.id
+  AND le.leaderboard_position <> ranked.new_position;
@@ -0,0 +1,17 @@
+-- ===================================================
+-- Score ingestion checkpoints
+-- Next Kafka offset per (consumer group, topic, partition), written in the
+-- same transaction as the scores it covers for exactly-once ingestion.
+-- ===================================================
+
+CREATE TABLE IF NOT EXISTS score_ingestion_checkpoints (
+    id               uuid         NOT NULL PRIMARY KEY,
+    created_at       timestamp(6) NOT NULL,
+    updated_at       timestamp(6) NOT NULL,
+    consumer_group   varchar(255) NOT NULL,
+    topic            varchar(255) NOT NULL,
+    partition_number integer      NOT NULL,
+    next_offset      bigint       NOT NULL,
+    CONSTRAINT uk_score_ingestion_checkpoints_group_topic_partition
+        UNIQUE (consumer_group, topic, partition_number)
+);
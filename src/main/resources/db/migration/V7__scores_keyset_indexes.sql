@@ -0,0 +1,11 @@
+-- ===================================================
+-- Score listing indexes
+-- Keyset pages and cursor streams read scores in (created_at, id) order,
+-- globally and per user; these indexes serve both without a sort.
+-- ===================================================
+
+CREATE INDEX IF NOT EXISTS idx_scores_created_at_id
+    ON scores (created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_scores_user_id_created_at_id
+    ON scores (user_id, created_at, id);
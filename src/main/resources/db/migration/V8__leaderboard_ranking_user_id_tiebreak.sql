@@ -0,0 +1,18 @@
+-- ===================================================
+-- Leaderboard ranking index tie-breaker
+-- Equal points and creation time are ordered by user_id, compared with
+-- the "C" collation, exactly like the in-memory rank index and the
+-- ROW_NUMBER() position recalculation. Keyset pages seek on this index.
+-- The new index is built CONCURRENTLY next to the old one and swapped in,
+-- so writes are never blocked and reads always have an index to use;
+-- this needs a non-transactional migration (see the .sql.conf file).
+-- ===================================================
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_leaderboard_entries_ranking_next;
+
+CREATE INDEX CONCURRENTLY idx_leaderboard_entries_ranking_next
+    ON leaderboard_entries (total_points DESC, created_at ASC, user_id COLLATE "C" ASC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_leaderboard_entries_ranking;
+
+ALTER INDEX idx_leaderboard_entries_ranking_next RENAME TO idx_leaderboard_entries_ranking;
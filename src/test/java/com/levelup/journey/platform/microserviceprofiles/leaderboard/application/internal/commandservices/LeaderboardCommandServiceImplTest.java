@@ -0,0 +1,137 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.commandservices;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl.ExternalProfilesService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.outboundservices.acl.ExternalScoresService;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.aggregates.LeaderboardEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.RecalculateLeaderboardPositionsCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardUserId;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka.LeaderboardEntryChangedKafkaPublisher;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka.LeaderboardPositionsChangedKafkaPublisher;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.persistence.jpa.repositories.LeaderboardEntryRepository;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.CycleLeaderboards;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.LeaderboardRankIndex;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.MappedLeaderboardStore;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.PointsHistogram;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.RankedEntry;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking.TimeWindowedLeaderboards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two replicas share the leaderboard_entries table; this one's rank index may not have
+ * applied the other replica's latest change yet when it writes positions.
+ */
+class LeaderboardCommandServiceImplTest {
+
+    private LeaderboardEntryRepository leaderboardEntryRepository;
+    private LeaderboardRankIndex leaderboardRankIndex;
+    private LeaderboardPositionsChangedKafkaPublisher leaderboardPositionsChangedKafkaPublisher;
+    private LeaderboardCommandServiceImpl leaderboardCommandService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardEntryRepository = mock(LeaderboardEntryRepository.class);
+        when(leaderboardEntryRepository.save(any(LeaderboardEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Local index of this replica: alice 300 (1), bob 200 (2), carol 100 (3)
+        leaderboardPositionsChangedKafkaPublisher = mock(LeaderboardPositionsChangedKafkaPublisher.class);
+        leaderboardRankIndex = new LeaderboardRankIndex();
+        leaderboardRankIndex.load(List.of(
+                new RankedEntry("alice", 300, 1_000L),
+                new RankedEntry("bob", 200, 1_000L),
+                new RankedEntry("carol", 100, 1_000L)
+        ), Map.of("alice", 1L, "bob", 1L, "carol", 1L));
+
+        leaderboardCommandService = new LeaderboardCommandServiceImpl(
+                leaderboardEntryRepository,
+                leaderboardRankIndex,
+                mock(PointsHistogram.class),
+                mock(TimeWindowedLeaderboards.class),
+                mock(CycleLeaderboards.class),
+                mock(MappedLeaderboardStore.class),
+                mock(ExternalScoresService.class),
+                mock(ExternalProfilesService.class),
+                mock(LeaderboardEntryChangedKafkaPublisher.class),
+                leaderboardPositionsChangedKafkaPublisher,
+                mock(ApplicationEventPublisher.class),
+                "incremental",
+                true,
+                1000);
+    }
+
+    @Test
+    void shiftsTheRangeWhenTheIndexMatchesThePersistedPositions() {
+        givenPersistedEntry("carol", 100, 3);
+        // Nobody in the table outranks 350 points
+        when(leaderboardEntryRepository.findPositionOfEntryAhead(eq(350), any(), eq("carol"))).thenReturn(Optional.empty());
+
+        var entry = leaderboardCommandService.handle(new UpdateLeaderboardEntryCommand("carol", 350)).orElseThrow();
+
+        verify(leaderboardEntryRepository).shiftPositions(1, 2, 1, "carol");
+        verify(leaderboardEntryRepository, never()).recalculateAllPositions();
+        assertEquals(1, entry.getPosition());
+    }
+
+    @Test
+    void recalculatesFromTheDatabaseWhenAnotherReplicaMovedAUserAheadOfTheNewSlot() {
+        // The other replica already raised bob to 400 (now persisted at position 1); this index still has 200
+        givenPersistedEntry("carol", 100, 3);
+        when(leaderboardEntryRepository.findPositionOfEntryAhead(eq(350), any(), eq("carol"))).thenReturn(Optional.of(1));
+
+        leaderboardCommandService.handle(new UpdateLeaderboardEntryCommand("carol", 350));
+
+        verify(leaderboardEntryRepository).recalculateAllPositions();
+        verify(leaderboardEntryRepository, never()).shiftPositions(anyInt(), anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    void recalculatesFromTheDatabaseWhenTheUserIsPersistedAtAnotherPosition() {
+        // The other replica inserted a user ahead of carol, who is now persisted at position 4
+        givenPersistedEntry("carol", 100, 4);
+
+        leaderboardCommandService.handle(new UpdateLeaderboardEntryCommand("carol", 350));
+
+        verify(leaderboardEntryRepository).recalculateAllPositions();
+        verify(leaderboardEntryRepository, never()).shiftPositions(anyInt(), anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    void recalculatesFromTheDatabaseWhenANewEntryIsAlreadyIndexedByAnotherReplica() {
+        // dave is unknown to the table but the index already holds a replicated version of him
+        leaderboardRankIndex.upsertIfNewer(new RankedEntry("dave", 50, 1_000L), 1L);
+        when(leaderboardEntryRepository.findByUserId(new LeaderboardUserId("dave"))).thenReturn(Optional.empty());
+
+        leaderboardCommandService.handle(new UpdateLeaderboardEntryCommand("dave", 60));
+
+        verify(leaderboardEntryRepository).recalculateAllPositions();
+    }
+
+    @Test
+    void fullRecalculationPublishesAnIncompletePositionBatch() {
+        leaderboardCommandService.handle(new RecalculateLeaderboardPositionsCommand());
+
+        verify(leaderboardPositionsChangedKafkaPublisher).publish(anyLong(), eq(List.of()), eq(false));
+    }
+
+    private void givenPersistedEntry(String userId, int points, int position) {
+        var entry = new LeaderboardEntry(userId, points, position);
+        when(leaderboardEntryRepository.findByUserId(new LeaderboardUserId(userId))).thenReturn(Optional.of(entry));
+    }
+}
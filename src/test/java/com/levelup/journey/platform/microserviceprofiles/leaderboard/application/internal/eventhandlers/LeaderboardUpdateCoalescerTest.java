@@ -0,0 +1,102 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.application.internal.eventhandlers;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntriesCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.UpdateLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LeaderboardUpdateCoalescerTest {
+
+    private LeaderboardCommandService leaderboardCommandService;
+    private SimpleMeterRegistry meterRegistry;
+    private LeaderboardUpdateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardCommandService = mock(LeaderboardCommandService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new LeaderboardUpdateCoalescer(leaderboardCommandService, meterRegistry, 500, 2);
+    }
+
+    @Test
+    void flushesOneUpdatePerUserWithTheHighestTotal() {
+        coalescer.submit("alice", 100);
+        coalescer.submit("alice", 300);
+        // Delivered late by the async event handler: must not overwrite the newer total
+        coalescer.submit("alice", 200);
+        coalescer.submit("bob", 50);
+
+        coalescer.flush();
+
+        var captor = ArgumentCaptor.forClass(UpdateLeaderboardEntriesCommand.class);
+        verify(leaderboardCommandService).handle(captor.capture());
+        var updates = captor.getValue().updates();
+        assertEquals(2, updates.size());
+        assertEquals(300, updates.stream().filter(update -> update.userId().equals("alice"))
+                .findFirst().orElseThrow().totalPoints());
+        assertEquals(0, coalescer.getBufferDepth());
+    }
+
+    @Test
+    void flushesAsSoonAsTheBatchSizeIsReached() {
+        coalescer = new LeaderboardUpdateCoalescer(leaderboardCommandService, meterRegistry, 2, 2);
+
+        coalescer.submit("alice", 100);
+        verify(leaderboardCommandService, never()).handle(any(UpdateLeaderboardEntriesCommand.class));
+        coalescer.submit("bob", 100);
+
+        verify(leaderboardCommandService).handle(any(UpdateLeaderboardEntriesCommand.class));
+    }
+
+    @Test
+    void retriesAFailedBatchOneByOneAndDropsAfterMaxAttempts() {
+        doThrow(new IllegalStateException("batch failed"))
+                .when(leaderboardCommandService).handle(any(UpdateLeaderboardEntriesCommand.class));
+        doThrow(new IllegalStateException("bob failed"))
+                .when(leaderboardCommandService).handle(new UpdateLeaderboardEntryCommand("bob", 50));
+
+        coalescer.submit("alice", 100);
+        coalescer.submit("bob", 50);
+        coalescer.flush();
+
+        verify(leaderboardCommandService).handle(new UpdateLeaderboardEntryCommand("alice", 100));
+        // bob is put back for the next flush
+        assertEquals(1, coalescer.getBufferDepth());
+
+        coalescer.flush();
+
+        verify(leaderboardCommandService, times(2)).handle(new UpdateLeaderboardEntryCommand("bob", 50));
+        assertEquals(0, coalescer.getBufferDepth());
+        assertEquals(1.0, meterRegistry.counter("leaderboard.coalescer.updates.dropped").count());
+    }
+
+    @Test
+    void aHigherTotalReplacesAFailedUpdate() {
+        doThrow(new IllegalStateException("batch failed"))
+                .when(leaderboardCommandService).handle(any(UpdateLeaderboardEntriesCommand.class));
+        doThrow(new IllegalStateException("bob failed"))
+                .when(leaderboardCommandService).handle(new UpdateLeaderboardEntryCommand("bob", 50));
+        coalescer.submit("bob", 50);
+        coalescer.flush();
+
+        coalescer.submit("bob", 80);
+
+        var captor = ArgumentCaptor.forClass(UpdateLeaderboardEntriesCommand.class);
+        coalescer.flush();
+        verify(leaderboardCommandService, times(2)).handle(captor.capture());
+        assertEquals(List.of(new UpdateLeaderboardEntryCommand("bob", 80)), captor.getValue().updates());
+    }
+}
@@ -0,0 +1,34 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeaderboardCursorTest {
+
+    @Test
+    void roundTripsThroughTheToken() {
+        var cursor = new LeaderboardCursor(250, Instant.parse("2025-03-01T10:15:30.123Z"), "user123");
+
+        assertEquals(cursor, LeaderboardCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rejectsATokenWithNegativePoints() {
+        var token = new WindowedLeaderboardCursor(-1, "user123").encode();
+
+        assertThrows(IllegalArgumentException.class, () -> LeaderboardCursor.decode(token));
+    }
+
+    @Test
+    void windowedAndCycleCursorsRoundTrip() {
+        var windowed = new WindowedLeaderboardCursor(40, "user|1");
+        var cycle = new CycleLeaderboardCursor(40, 1_700_000_000_000L, "user-2");
+
+        assertEquals(windowed, WindowedLeaderboardCursor.decode(windowed.encode()));
+        assertEquals(cycle, CycleLeaderboardCursor.decode(cycle.encode()));
+    }
+}
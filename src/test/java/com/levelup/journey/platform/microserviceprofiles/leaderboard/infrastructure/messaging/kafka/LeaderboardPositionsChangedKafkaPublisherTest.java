@@ -0,0 +1,75 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.events.LeaderboardPositionsChangedEvent;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.valueobjects.LeaderboardPositionDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardPositionsChangedKafkaPublisherTest {
+
+    private static final String TOPIC = "leaderboard-position-changes";
+
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private LeaderboardPositionsChangedKafkaPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(new CompletableFuture<SendResult<String, Object>>());
+        publisher = new LeaderboardPositionsChangedKafkaPublisher(kafkaTemplate);
+        ReflectionTestUtils.setField(publisher, "leaderboardPositionChangesTopic", TOPIC);
+        ReflectionTestUtils.setField(publisher, "kafkaEnabled", true);
+        ReflectionTestUtils.setField(publisher, "maxChangesPerRecord", 2);
+    }
+
+    @Test
+    void incompleteBatchWithoutChangesStillSendsOneRecord() {
+        publisher.publish(7L, List.of(), false);
+
+        var event = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(TOPIC), eq("global"), event.capture());
+        var sent = (LeaderboardPositionsChangedEvent) event.getValue();
+        assertEquals(7L, sent.getLeaderboardVersion());
+        assertTrue(sent.getChanges().isEmpty());
+        assertFalse(sent.isComplete());
+    }
+
+    @Test
+    void completeBatchWithoutChangesSendsNothing() {
+        publisher.publish(7L, List.of(), true);
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+    }
+
+    @Test
+    void splitsChangesIntoRecordsOfBoundedSize() {
+        publisher.publish(8L, List.of(
+                new LeaderboardPositionDelta("alice", 2, 1, 300),
+                new LeaderboardPositionDelta("bob", 1, 2, 200),
+                new LeaderboardPositionDelta("carol", 4, 3, 100)
+        ), true);
+
+        verify(kafkaTemplate, times(2)).send(eq(TOPIC), eq("global"), any());
+    }
+}
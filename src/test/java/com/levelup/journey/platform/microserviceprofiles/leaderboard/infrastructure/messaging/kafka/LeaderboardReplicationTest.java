@@ -0,0 +1,109 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.model.commands.ApplyReplicatedLeaderboardEntryCommand;
+import com.levelup.journey.platform.microserviceprofiles.leaderboard.domain.services.LeaderboardCommandService;
+import com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka.KafkaConsumerConfig;
+import com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka.KafkaProducerConfig;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs two instances against one embedded broker and checks that each applies the other's
+ * leaderboard changes, skips its own, starts at its own start time and creates no consumer group.
+ */
+@EmbeddedKafka(partitions = 3, topics = LeaderboardReplicationTest.LEADERBOARD_CHANGES_TOPIC)
+class LeaderboardReplicationTest {
+
+    static final String LEADERBOARD_CHANGES_TOPIC = "leaderboard-changes";
+    private static final long TIMEOUT_MILLIS = 10_000L;
+
+    @Test
+    void replicatesChangesBetweenTwoInstances(EmbeddedKafkaBroker broker) throws Exception {
+        try (var replicaA = startReplica(broker)) {
+            var publisherA = replicaA.getBean(LeaderboardEntryChangedKafkaPublisher.class);
+            var commandServiceA = replicaA.getBean(LeaderboardCommandService.class);
+
+            // Published before replica B started: B must not replay it
+            publisherA.publish("early", 10, 1_000L, 1L, 10, 2_000L);
+            Thread.sleep(50);
+
+            try (var replicaB = startReplica(broker)) {
+                var publisherB = replicaB.getBean(LeaderboardEntryChangedKafkaPublisher.class);
+                var commandServiceB = replicaB.getBean(LeaderboardCommandService.class);
+
+                publisherA.publish("alice", 300, 1_000L, 2L, 50, 3_000L);
+                publisherB.publish("bob", 200, 1_500L, 4L, 20, 4_000L);
+
+                verify(commandServiceB, timeout(TIMEOUT_MILLIS)).handle(
+                        new ApplyReplicatedLeaderboardEntryCommand("alice", 300, 1_000L, 2L, 50, 3_000L));
+                verify(commandServiceA, timeout(TIMEOUT_MILLIS)).handle(
+                        new ApplyReplicatedLeaderboardEntryCommand("bob", 200, 1_500L, 4L, 20, 4_000L));
+
+                // Each instance skips the changes it published itself
+                verify(commandServiceA, never()).handle(argThat(
+                        (ApplyReplicatedLeaderboardEntryCommand command) -> !command.userId().equals("bob")));
+                verify(commandServiceB, never()).handle(argThat(
+                        (ApplyReplicatedLeaderboardEntryCommand command) -> !command.userId().equals("alice")));
+            }
+        }
+
+        try (var admin = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            assertTrue(admin.listConsumerGroups().all().get().isEmpty(), "Replication must not create a consumer group");
+        }
+    }
+
+    private static AnnotationConfigApplicationContext startReplica(EmbeddedKafkaBroker broker) {
+        var context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("replica", Map.of(
+                "spring.kafka.bootstrap-servers", broker.getBrokersAsString(),
+                "spring.kafka.consumer.group-id", "microserviceprofiles",
+                "app.kafka.enabled", "true",
+                "app.kafka.topics.leaderboard-changes", LEADERBOARD_CHANGES_TOPIC,
+                "app.kafka.topics.community-registration", "community-registration",
+                "app.kafka.topics.community-profile-updated", "community-profile-updated"
+        )));
+        context.register(ReplicaConfig.class);
+        context.refresh();
+
+        var registry = context.getBean(KafkaListenerEndpointRegistry.class);
+        registry.getListenerContainers().forEach(container ->
+                ContainerTestUtils.waitForAssignment(container, broker.getPartitionsPerTopic()));
+        return context;
+    }
+
+    @Configuration
+    @Import({KafkaConsumerConfig.class, KafkaProducerConfig.class,
+            LeaderboardEntryChangedKafkaPublisher.class, LeaderboardEntryChangedEventListener.class})
+    static class ReplicaConfig {
+
+        @Bean
+        LeaderboardCommandService leaderboardCommandService() {
+            return mock(LeaderboardCommandService.class);
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+}
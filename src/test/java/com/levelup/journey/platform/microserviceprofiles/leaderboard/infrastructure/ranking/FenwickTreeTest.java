@@ -0,0 +1,79 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FenwickTreeTest {
+
+    @Test
+    void prefixSumsMatchANaiveArray() {
+        var random = new Random(42);
+        var tree = new FenwickTree(64);
+        var counts = new long[64];
+
+        for (int step = 0; step < 5_000; step++) {
+            int index = random.nextInt(counts.length);
+            long delta = random.nextInt(7) - 3;
+            tree.add(index, delta);
+            counts[index] += delta;
+
+            int probe = random.nextInt(counts.length);
+            long expected = 0L;
+            for (int i = 0; i <= probe; i++) {
+                expected += counts[i];
+            }
+            assertEquals(expected, tree.prefixSum(probe));
+            assertEquals(counts[probe], tree.countAt(probe));
+        }
+        assertArrayEquals(counts, tree.counts());
+    }
+
+    @Test
+    void growsPastItsCapacityKeepingTheCounts() {
+        var tree = new FenwickTree(4);
+        tree.add(0, 1);
+        tree.add(3, 2);
+
+        tree.add(100, 5);
+
+        assertEquals(101, tree.capacity());
+        assertEquals(1, tree.countAt(0));
+        assertEquals(2, tree.countAt(3));
+        assertEquals(5, tree.countAt(100));
+        assertEquals(8, tree.total());
+        assertEquals(3, tree.prefixSum(99));
+    }
+
+    @Test
+    void prefixSumOutsideTheTreeIsBounded() {
+        var tree = new FenwickTree(8);
+        tree.add(2, 3);
+
+        assertEquals(0, tree.prefixSum(-1));
+        assertEquals(3, tree.prefixSum(1_000));
+    }
+
+    @Test
+    void clearRemovesEveryCount() {
+        var tree = new FenwickTree(8);
+        tree.add(1, 4);
+        tree.add(6, 2);
+
+        tree.clear();
+
+        assertEquals(0, tree.total());
+        assertEquals(0, tree.prefixSum(7));
+    }
+
+    @Test
+    void rejectsNegativeIndexes() {
+        var tree = new FenwickTree(8);
+
+        assertThrows(IllegalArgumentException.class, () -> tree.add(-1, 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardRankIndexTest {
+
+    private LeaderboardRankIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LeaderboardRankIndex();
+        index.load(List.of(
+                new RankedEntry("alice", 300, 1_000L),
+                new RankedEntry("bob", 200, 1_000L),
+                new RankedEntry("carol", 100, 1_000L)
+        ), Map.of("alice", 3L, "bob", 2L, "carol", 1L));
+    }
+
+    @Test
+    void upsertReportsTheMoveOfTheUser() {
+        var move = index.upsert(new RankedEntry("carol", 400, 1_000L), 2L);
+
+        assertEquals(3, move.oldPosition());
+        assertEquals(1, move.newPosition());
+        assertEquals(1, move.affectedFrom());
+        assertEquals(3, move.affectedTo());
+        assertEquals(1, index.rankOf("carol"));
+        assertEquals(2, index.rankOf("alice"));
+    }
+
+    @Test
+    void revertRestoresThePreviousStateAfterARollback() {
+        var previous = index.get("carol").orElseThrow();
+        var written = new RankedEntry("carol", 400, 1_000L);
+        index.upsert(written, 2L);
+
+        assertTrue(index.revert(written, 2L, previous, 1L));
+
+        assertEquals(previous, index.get("carol").orElseThrow());
+        assertEquals(3, index.rankOf("carol"));
+        // The restored version still accepts the replicated change the rolled back write would have hidden
+        assertTrue(index.upsertIfNewer(new RankedEntry("carol", 150, 1_000L), 2L).isPresent());
+    }
+
+    @Test
+    void revertRemovesAUserInsertedByTheRolledBackWrite() {
+        var written = new RankedEntry("dave", 50, 2_000L);
+        index.upsert(written, 1L);
+
+        assertTrue(index.revert(written, 1L, null, 0L));
+
+        assertFalse(index.get("dave").isPresent());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void revertKeepsANewerChangeIndexedMeanwhile() {
+        var previous = index.get("carol").orElseThrow();
+        var written = new RankedEntry("carol", 400, 1_000L);
+        index.upsert(written, 2L);
+        var newer = new RankedEntry("carol", 500, 1_000L);
+        index.upsertIfNewer(newer, 3L);
+
+        assertFalse(index.revert(written, 2L, previous, 1L));
+
+        assertEquals(newer, index.get("carol").orElseThrow());
+    }
+
+    @Test
+    void committedSnapshotHidesWritesStillInFlight() {
+        var previous = index.get("carol").orElseThrow();
+        var written = new RankedEntry("carol", 400, 1_000L);
+        index.upsert(written, 2L);
+        index.upsert(new RankedEntry("dave", 50, 2_000L), 1L);
+
+        var committed = index.committedSnapshot();
+        assertTrue(committed.contains(previous));
+        assertFalse(committed.contains(written));
+        assertEquals(3, committed.size());
+
+        index.markCommitted(written, 2L);
+        assertTrue(index.committedSnapshot().contains(written));
+    }
+
+    @Test
+    void upsertIfNewerDiscardsStaleReplicatedChanges() {
+        assertFalse(index.upsertIfNewer(new RankedEntry("alice", 10, 1_000L), 3L).isPresent());
+        assertTrue(index.upsertIfNewer(new RankedEntry("alice", 10, 1_000L), 4L).isPresent());
+        assertEquals(3, index.rankOf("alice"));
+    }
+}
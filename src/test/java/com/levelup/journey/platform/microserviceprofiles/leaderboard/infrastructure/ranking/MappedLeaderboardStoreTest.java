@@ -0,0 +1,90 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedLeaderboardStoreTest {
+
+    private Path directory;
+    private Path file;
+    private LeaderboardRankIndex index;
+    private MappedLeaderboardStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("leaderboard-store");
+        file = directory.resolve("rank-index.bin");
+        index = new LeaderboardRankIndex();
+        store = new MappedLeaderboardStore(index, true, file.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    void roundTripsUserIdsOfAnyFormat() {
+        var entries = List.of(
+                new RankedEntry("user123", 500, 1_000L),
+                new RankedEntry("0b7c3f2e-8a51-4c3e-9d2a-6f1e0c9b4a11", 400, 2_000L),
+                new RankedEntry("usuario-ñandú-🏆", 300, 3_000L)
+        );
+        index.load(entries, Map.of());
+
+        assertEquals(3, store.checkpoint());
+
+        var checkpoint = store.open().orElseThrow();
+        var reopened = new ArrayList<RankedEntry>();
+        checkpoint.entries().forEach(reopened::add);
+        assertEquals(3, checkpoint.size());
+        assertEquals(entries, reopened);
+    }
+
+    @Test
+    void checkpointsOnlyCommittedPoints() {
+        index.load(List.of(new RankedEntry("user123", 100, 1_000L)), Map.of("user123", 1L));
+        index.upsert(new RankedEntry("user123", 900, 1_000L), 2L);
+
+        store.checkpoint();
+
+        var reopened = store.open().orElseThrow().entries().iterator().next();
+        assertEquals(100, reopened.points());
+    }
+
+    @Test
+    void ignoresATruncatedFile() throws IOException {
+        index.load(List.of(new RankedEntry("user123", 100, 1_000L), new RankedEntry("user456", 50, 1_000L)), Map.of());
+        store.checkpoint();
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertFalse(store.open().isPresent());
+    }
+
+    @Test
+    void writesNothingBeforeTheIndexIsLoaded() {
+        assertEquals(0, store.checkpoint());
+        assertFalse(Files.exists(file));
+        assertTrue(store.isEnabled());
+    }
+}
@@ -0,0 +1,96 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void ranksAndSelectsInLeaderboardOrder() {
+        var tree = new OrderStatisticTree<RankedEntry>();
+        var first = new RankedEntry("user-a", 300, 1_000L);
+        var second = new RankedEntry("user-b", 200, 1_000L);
+        var third = new RankedEntry("user-c", 100, 1_000L);
+        tree.add(third);
+        tree.add(first);
+        tree.add(second);
+
+        assertEquals(3, tree.size());
+        assertEquals(0, tree.countLessThan(first));
+        assertEquals(1, tree.countLessThan(second));
+        assertEquals(2, tree.countLessThan(third));
+        assertEquals(first, tree.select(0));
+        assertEquals(third, tree.select(2));
+        assertNull(tree.select(3));
+        assertNull(tree.select(-1));
+    }
+
+    @Test
+    void breaksTiesOnCreationTimeThenUserId() {
+        var tree = new OrderStatisticTree<RankedEntry>();
+        var later = new RankedEntry("user-a", 100, 2_000L);
+        var earlierB = new RankedEntry("user-b", 100, 1_000L);
+        var earlierA = new RankedEntry("user-A", 100, 1_000L);
+        tree.add(later);
+        tree.add(earlierB);
+        tree.add(earlierA);
+
+        // "user-A" sorts before "user-b" by UTF-16 code unit, like user_id COLLATE "C"
+        assertEquals(List.of(earlierA, earlierB, later), tree.range(0, 3));
+    }
+
+    @Test
+    void ignoresDuplicatesAndRemovesOnlyPresentKeys() {
+        var tree = new OrderStatisticTree<Integer>();
+        assertTrue(tree.add(5));
+        assertFalse(tree.add(5));
+        assertFalse(tree.remove(7));
+        assertTrue(tree.remove(5));
+        assertFalse(tree.contains(5));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    void rangeStopsAtTheEndOfTheTree() {
+        var tree = new OrderStatisticTree<Integer>();
+        for (int i = 0; i < 10; i++) {
+            tree.add(i);
+        }
+
+        assertEquals(List.of(7, 8, 9), tree.range(7, 5));
+        assertEquals(List.of(), tree.range(10, 5));
+        assertEquals(List.of(), tree.range(0, 0));
+    }
+
+    @Test
+    void matchesASortedSetUnderRandomInsertsAndDeletes() {
+        var tree = new OrderStatisticTree<Integer>();
+        var expected = new TreeSet<Integer>();
+        var random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), tree.add(key));
+            } else {
+                assertEquals(expected.remove(key), tree.remove(key));
+            }
+        }
+
+        var sorted = new ArrayList<>(expected);
+        assertEquals(sorted.size(), tree.size());
+        assertEquals(sorted, tree.range(0, sorted.size()));
+        for (int index = 0; index < sorted.size(); index += 37) {
+            assertEquals(sorted.get(index), tree.select(index));
+            assertEquals(index, tree.countLessThan(sorted.get(index)));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.levelup.journey.platform.microserviceprofiles.leaderboard.infrastructure.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PointsHistogramTest {
+
+    @Test
+    void countsUsersInHigherBuckets() {
+        var histogram = new PointsHistogram(10);
+        histogram.load(List.of(5, 15, 15, 27, 100));
+
+        assertEquals(2, histogram.countInHigherBuckets(15));
+        assertEquals(4, histogram.countInHigherBuckets(0));
+        assertEquals(0, histogram.countInHigherBuckets(100));
+    }
+
+    @Test
+    void estimatesPositionsWithinABucket() {
+        var histogram = new PointsHistogram(10);
+        histogram.load(List.of(5, 15, 15, 27, 100));
+
+        assertEquals(1, histogram.estimatePosition(100));
+        // Two users ahead in higher buckets; the bucket mate is assumed spread evenly
+        assertEquals(3, histogram.estimatePosition(15));
+        assertEquals(4, histogram.estimatePosition(10));
+        assertEquals(5, histogram.estimatePosition(5));
+    }
+
+    @Test
+    void estimatesAreExactWithOnePointBuckets() {
+        var random = new Random(7);
+        var histogram = new PointsHistogram(1);
+        var points = new ArrayList<Integer>();
+        for (int i = 0; i < 2_000; i++) {
+            points.add(random.nextInt(500));
+        }
+        histogram.load(points);
+
+        for (int probe = 0; probe < 500; probe += 7) {
+            int value = probe;
+            long ahead = points.stream().filter(p -> p > value).count();
+            assertEquals(ahead + 1, histogram.estimatePosition(value));
+        }
+    }
+
+    @Test
+    void movesUsersBetweenBuckets() {
+        var histogram = new PointsHistogram(10);
+        histogram.load(List.of(5, 15, 15, 27, 100));
+
+        histogram.move(15, 101);
+        histogram.move(null, 3);
+        histogram.move(27, null);
+
+        assertEquals(5, histogram.size());
+        assertEquals(2, histogram.countInHigherBuckets(15));
+        assertEquals(5 + 15 + 100 + 101 + 3, histogram.distribution().pointsSum());
+    }
+
+    @Test
+    void exportsTrimmedBucketCounts() {
+        var histogram = new PointsHistogram(10);
+        histogram.load(List.of(5, 15, 15, 27, 100));
+
+        var distribution = histogram.distribution();
+
+        assertEquals(10, distribution.bucketWidth());
+        assertArrayEquals(new long[] {1, 2, 1, 0, 0, 0, 0, 0, 0, 0, 1}, distribution.counts());
+        assertEquals(162L, distribution.pointsSum());
+    }
+
+    @Test
+    void emptyHistogramReportsTheWholeBoard() {
+        var histogram = new PointsHistogram(10);
+        histogram.load(List.of());
+
+        assertEquals(100.0, histogram.topPercent(50));
+        assertEquals(1, histogram.estimatePosition(50));
+    }
+
+    @Test
+    void rejectsInvalidBucketWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new PointsHistogram(0));
+    }
+}
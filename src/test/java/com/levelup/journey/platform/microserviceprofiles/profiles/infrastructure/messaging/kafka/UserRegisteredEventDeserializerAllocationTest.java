@@ -0,0 +1,76 @@
+package com.levelup.journey.platform.microserviceprofiles.profiles.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.profiles.domain.model.commands.CreateProfileFromUserCommand;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes allocated per record by the streaming deserializer against
+ * the String + readTree() parsing it replaced, on the same payload.
+ */
+class UserRegisteredEventDeserializerAllocationTest {
+
+    private static final String TOPIC = "iam.user.registered";
+    private static final int WARMUP_RECORDS = 50_000;
+    private static final int MEASURED_RECORDS = 200_000;
+    private static final byte[] PAYLOAD = """
+            {"userId":"5f0c8a2e-3b7d-4c1e-9a6f-2d8b7e4c1a90","email":"maria.fernandez@example.com",\
+            "firstName":"María","lastName":"Fernández","profileUrl":"https://cdn.example.com/avatars/5f0c8a2e.png",\
+            "provider":"GOOGLE","roles":["ROLE_STUDENT"],"registeredAt":"2025-05-14T10:32:08.512Z"}""".getBytes(StandardCharsets.UTF_8);
+
+    private static Object sink;
+
+    @Test
+    void allocatesLessPerRecordThanTreeParsing() {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not available");
+
+        var deserializer = new UserRegisteredEventDeserializer();
+        var objectMapper = new ObjectMapper();
+
+        long treeBytes = bytesPerRecord(threadMXBean, () -> parseWithTree(objectMapper, PAYLOAD));
+        long streamingBytes = bytesPerRecord(threadMXBean, () -> deserializer.deserialize(TOPIC, PAYLOAD));
+
+        System.out.printf("user registered (%d B payload): tree %d B/record, streaming %d B/record%n",
+                PAYLOAD.length, treeBytes, streamingBytes);
+        assertTrue(streamingBytes < treeBytes,
+                "Streaming deserializer allocated " + streamingBytes + " B/record, tree parsing " + treeBytes);
+    }
+
+    /**
+     * The parsing used before the deserializer: a String of the payload, a JsonNode tree, then field lookups
+     */
+    private static CreateProfileFromUserCommand parseWithTree(ObjectMapper objectMapper, byte[] data) {
+        try {
+            JsonNode eventData = objectMapper.readTree(new String(data, StandardCharsets.UTF_8));
+            String userId = eventData.has("userId") ? eventData.get("userId").asText() : null;
+            String firstName = eventData.has("firstName") ? eventData.get("firstName").asText() : "";
+            String lastName = eventData.has("lastName") ? eventData.get("lastName").asText() : "";
+            String profileUrl = eventData.has("profileUrl") && !eventData.get("profileUrl").isNull()
+                    ? eventData.get("profileUrl").asText() : null;
+            String provider = eventData.has("provider") ? eventData.get("provider").asText() : null;
+            return new CreateProfileFromUserCommand(userId, firstName, lastName, profileUrl, provider);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long bytesPerRecord(com.sun.management.ThreadMXBean threadMXBean, Supplier<Object> parse) {
+        for (int i = 0; i < WARMUP_RECORDS; i++) {
+            sink = parse.get();
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_RECORDS; i++) {
+            sink = parse.get();
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_RECORDS;
+    }
+}
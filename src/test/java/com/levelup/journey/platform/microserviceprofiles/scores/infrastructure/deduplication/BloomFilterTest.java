@@ -0,0 +1,97 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.deduplication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED_KEYS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void neverReportsAnAddedKeyAsAbsent() {
+        var filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            filter.put(key(i));
+        }
+
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            assertTrue(filter.mightContain(key(i)), "Missing added key " + key(i));
+        }
+    }
+
+    @Test
+    void keepsTheFalsePositiveRateNearTheTargetAtTheExpectedLoad() {
+        var filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            filter.put(key(i));
+        }
+
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = EXPECTED_KEYS; i < EXPECTED_KEYS + probes; i++) {
+            if (filter.mightContain(key(i))) {
+                falsePositives++;
+            }
+        }
+        double rate = falsePositives / (double) probes;
+        assertTrue(rate < FALSE_POSITIVE_RATE * 2, "False-positive rate " + rate);
+    }
+
+    @Test
+    void clearRemovesEveryKey() {
+        var filter = new BloomFilter(1_000, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(key(i));
+        }
+
+        filter.clear();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(filter.mightContain(key(i)));
+        }
+    }
+
+    @Test
+    void keepsEveryKeyAddedConcurrently() throws Exception {
+        var filter = new BloomFilter(EXPECTED_KEYS, FALSE_POSITIVE_RATE);
+        int threads = 8;
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            tasks.add(() -> {
+                for (int i = offset; i < EXPECTED_KEYS; i += threads) {
+                    filter.put(key(i));
+                }
+                return null;
+            });
+        }
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        for (int i = 0; i < EXPECTED_KEYS; i++) {
+            assertTrue(filter.mightContain(key(i)), "Missing added key " + key(i));
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, FALSE_POSITIVE_RATE));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(EXPECTED_KEYS, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(EXPECTED_KEYS, 1.0));
+    }
+
+    private static String key(int i) {
+        return "user-" + i + "|challenge-" + (i * 31 % 997) + "|CHALLENGE";
+    }
+}
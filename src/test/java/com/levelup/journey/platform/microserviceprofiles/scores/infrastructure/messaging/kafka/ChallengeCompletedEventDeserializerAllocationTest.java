@@ -0,0 +1,82 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.messaging.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.commands.RecordScoreFromChallengeCommand;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the bytes allocated per record by the streaming deserializer against
+ * the String + readTree() parsing it replaced, on the same payload.
+ */
+class ChallengeCompletedEventDeserializerAllocationTest {
+
+    private static final String TOPIC = "challenge.completed";
+    private static final int WARMUP_RECORDS = 50_000;
+    private static final int MEASURED_RECORDS = 200_000;
+    private static final byte[] PAYLOAD = """
+            {"studentId":"5f0c8a2e-3b7d-4c1e-9a6f-2d8b7e4c1a90","challengeId":"b1e2c3d4-5f60-4a7b-8c9d-0e1f2a3b4c5d",\
+            "challengeTitle":"Binary search on sorted arrays","language":"java","experiencePointsEarned":150,\
+            "alreadyCompleted":false,"executionTimeMs":842,"solutionTimeSeconds":1260,\
+            "completedAt":"2025-05-14T10:32:08.512Z","testsPassed":12,"testsTotal":12}""".getBytes(StandardCharsets.UTF_8);
+
+    private static Object sink;
+
+    @Test
+    void allocatesLessPerRecordThanTreeParsing() {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not available");
+
+        var deserializer = new ChallengeCompletedEventDeserializer();
+        var objectMapper = new ObjectMapper();
+
+        long treeBytes = bytesPerRecord(threadMXBean, () -> parseWithTree(objectMapper, PAYLOAD));
+        long streamingBytes = bytesPerRecord(threadMXBean, () -> deserializer.deserialize(TOPIC, PAYLOAD));
+
+        System.out.printf("challenge.completed (%d B payload): tree %d B/record, streaming %d B/record%n",
+                PAYLOAD.length, treeBytes, streamingBytes);
+        assertTrue(streamingBytes < treeBytes,
+                "Streaming deserializer allocated " + streamingBytes + " B/record, tree parsing " + treeBytes);
+    }
+
+    /**
+     * The parsing used before the deserializer: a String of the payload, a JsonNode tree, then field lookups
+     */
+    private static RecordScoreFromChallengeCommand parseWithTree(ObjectMapper objectMapper, byte[] data) {
+        try {
+            JsonNode eventData = objectMapper.readTree(new String(data, StandardCharsets.UTF_8));
+            boolean alreadyCompleted = eventData.has("alreadyCompleted") && eventData.get("alreadyCompleted").asBoolean();
+            if (alreadyCompleted) {
+                return null;
+            }
+            return new RecordScoreFromChallengeCommand(
+                    eventData.get("studentId").asText(),
+                    eventData.get("challengeId").asText(),
+                    "CHALLENGE",
+                    eventData.get("experiencePointsEarned").asInt(),
+                    eventData.has("executionTimeMs") ? eventData.get("executionTimeMs").asLong() : 0L,
+                    eventData.has("solutionTimeSeconds") ? eventData.get("solutionTimeSeconds").asLong() : 0L
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long bytesPerRecord(com.sun.management.ThreadMXBean threadMXBean, Supplier<Object> parse) {
+        for (int i = 0; i < WARMUP_RECORDS; i++) {
+            sink = parse.get();
+        }
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_RECORDS; i++) {
+            sink = parse.get();
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / MEASURED_RECORDS;
+    }
+}
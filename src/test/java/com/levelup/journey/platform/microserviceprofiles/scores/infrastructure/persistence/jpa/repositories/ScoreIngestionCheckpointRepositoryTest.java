@@ -0,0 +1,73 @@
+package com.levelup.journey.platform.microserviceprofiles.scores.infrastructure.persistence.jpa.repositories;
+
+import com.levelup.journey.platform.microserviceprofiles.scores.domain.model.aggregates.ScoreIngestionCheckpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the Flyway migrations against a real Postgres; skipped when Docker is not available
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ScoreIngestionCheckpointRepositoryTest {
+
+    private static final String GROUP = "profile-service-group";
+    private static final String TOPIC = "challenge.completed";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ScoreIngestionCheckpointRepository scoreIngestionCheckpointRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void storedOffsetsNeverMoveBackwards() {
+        upsert(new Integer[] {0, 1}, new Long[] {100L, 40L});
+        // A late batch from the previous owner of partition 0 and a newer batch of partition 1
+        upsert(new Integer[] {0, 1}, new Long[] {60L, 55L});
+
+        assertEquals(Map.of(0, 100L, 1, 55L), storedOffsets());
+    }
+
+    @Test
+    void storedOffsetsAdvance() {
+        upsert(new Integer[] {2}, new Long[] {10L});
+        upsert(new Integer[] {2}, new Long[] {11L});
+        upsert(new Integer[] {2}, new Long[] {11L});
+
+        assertEquals(Map.of(2, 11L), storedOffsets());
+    }
+
+    private void upsert(Integer[] partitions, Long[] nextOffsets) {
+        var groups = new String[partitions.length];
+        var topics = new String[partitions.length];
+        Arrays.fill(groups, GROUP);
+        Arrays.fill(topics, TOPIC);
+        scoreIngestionCheckpointRepository.upsertNextOffsets(groups, topics, partitions, nextOffsets);
+    }
+
+    private Map<Integer, Long> storedOffsets() {
+        // The upsert bypasses the persistence context
+        entityManager.clear();
+        return scoreIngestionCheckpointRepository.findByConsumerGroupAndTopic(GROUP, TOPIC).stream()
+                .collect(Collectors.toMap(ScoreIngestionCheckpoint::getPartitionNumber, ScoreIngestionCheckpoint::getNextOffset));
+    }
+}
@@ -0,0 +1,47 @@
+package com.levelup.journey.platform.microserviceprofiles.shared.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorCodecTest {
+
+    @Test
+    void roundTripsValuesAndKeepsTheSeparatorInTheLastValue() {
+        var token = KeysetCursorCodec.encode(120, "2025-01-01T00:00:00Z", "user|with|pipes");
+
+        assertFalse(token.contains("="));
+        var values = KeysetCursorCodec.decode(token, 3, decoded -> decoded);
+        assertEquals(120, Integer.parseInt(values[0]));
+        assertEquals("2025-01-01T00:00:00Z", values[1]);
+        assertEquals("user|with|pipes", values[2]);
+    }
+
+    @Test
+    void rejectsBlankTokens() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursorCodec.decode(" ", 2, values -> values));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursorCodec.decode(null, 2, values -> values));
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64OrHoldTooFewValues() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursorCodec.decode("not base64!", 2, values -> values));
+        var oneValue = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursorCodec.decode(oneValue, 2, values -> values));
+    }
+
+    @Test
+    void wrapsFactoryParseFailures() {
+        var token = KeysetCursorCodec.encode("not-an-instant", "user-1");
+
+        var error = assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursorCodec.decode(token, 2, values -> Instant.parse(values[0])));
+        assertEquals("Invalid cursor token", error.getMessage());
+    }
+}
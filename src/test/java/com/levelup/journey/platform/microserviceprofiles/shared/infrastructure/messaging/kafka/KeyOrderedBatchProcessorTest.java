@@ -0,0 +1,137 @@
+package com.levelup.journey.platform.microserviceprofiles.shared.infrastructure.messaging.kafka;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyOrderedBatchProcessorTest {
+
+    private final List<KeyOrderedBatchProcessor> processors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        processors.forEach(KeyOrderedBatchProcessor::shutdown);
+    }
+
+    @Test
+    void handsEachKeyItsItemsOnceAndInOrder() {
+        var processor = processor(true, 4);
+        var items = new ArrayList<Item>();
+        for (int i = 0; i < 300; i++) {
+            items.add(new Item("user-" + (i % 7), i));
+        }
+        var handled = new ConcurrentHashMap<String, List<List<Integer>>>();
+
+        processor.process(items, Item::key, group -> handled
+                .computeIfAbsent(group.get(0).key(), key -> new CopyOnWriteArrayList<>())
+                .add(group.stream().map(Item::position).toList()));
+
+        assertEquals(7, handled.size());
+        int handledItems = 0;
+        for (Map.Entry<String, List<List<Integer>>> entry : handled.entrySet()) {
+            assertEquals(1, entry.getValue().size(), "Key " + entry.getKey() + " handled more than once");
+            var positions = entry.getValue().get(0);
+            handledItems += positions.size();
+            for (int i = 1; i < positions.size(); i++) {
+                assertTrue(positions.get(i - 1) < positions.get(i), "Key " + entry.getKey() + " reordered");
+            }
+        }
+        assertEquals(items.size(), handledItems);
+    }
+
+    @Test
+    void runsKeyGroupsInParallelUpToTheConcurrencyLimit() {
+        var processor = processor(true, 2);
+        var items = List.of(new Item("a", 0), new Item("b", 1), new Item("c", 2),
+                new Item("d", 3), new Item("e", 4), new Item("f", 5));
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+
+        processor.process(items, Item::key, group -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+        });
+
+        assertEquals(2, maxActive.get());
+    }
+
+    @Test
+    void reportsTheFirstPositionOfTheLowestFailedGroup() {
+        var processor = processor(true, 4);
+        var items = List.of(new Item("a", 0), new Item("b", 1), new Item("a", 2),
+                new Item("c", 3), new Item("b", 4));
+        var failureOfB = new IllegalStateException("b failed");
+
+        var exception = assertThrows(KeyOrderedProcessingException.class, () ->
+                processor.process(items, Item::key, group -> {
+                    switch (group.get(0).key()) {
+                        case "b" -> throw failureOfB;
+                        case "c" -> throw new IllegalStateException("c failed");
+                        default -> {
+                        }
+                    }
+                }));
+
+        assertEquals(1, exception.getFailedPosition());
+        assertSame(failureOfB, exception.getCause());
+    }
+
+    @Test
+    void handsTheWholeBatchToOneCallWhenDisabled() {
+        var processor = processor(false, 4);
+        var items = List.of(new Item("a", 0), new Item("b", 1), new Item("a", 2));
+        var calls = new CopyOnWriteArrayList<List<Item>>();
+
+        processor.process(items, Item::key, calls::add);
+
+        assertEquals(List.of(items), calls);
+    }
+
+    @Test
+    void reportsPositionZeroWhenASingleGroupFails() {
+        var processor = processor(true, 4);
+        var items = List.of(new Item("a", 0), new Item("a", 1));
+
+        var exception = assertThrows(KeyOrderedProcessingException.class, () ->
+                processor.process(items, Item::key, group -> {
+                    throw new IllegalStateException("failed");
+                }));
+
+        assertEquals(0, exception.getFailedPosition());
+    }
+
+    @Test
+    void ignoresAnEmptyBatch() {
+        var processor = processor(true, 4);
+        var calls = new AtomicInteger();
+
+        processor.process(List.<Item>of(), Item::key, group -> calls.incrementAndGet());
+
+        assertEquals(0, calls.get());
+    }
+
+    private KeyOrderedBatchProcessor processor(boolean enabled, int maxConcurrency) {
+        var processor = new KeyOrderedBatchProcessor(enabled, maxConcurrency);
+        processors.add(processor);
+        return processor;
+    }
+
+    private record Item(String key, int position) {
+    }
+}